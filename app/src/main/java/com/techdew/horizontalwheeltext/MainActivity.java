@@ -5,27 +5,22 @@ import android.os.Bundle;
 import android.widget.Toast;
 
 import com.techdew.lib.HorizontalWheel.AbstractWheel;
-import com.techdew.lib.HorizontalWheel.ArrayWheelAdapter;
+import com.techdew.lib.HorizontalWheel.NumericWheelAdapter;
 import com.techdew.lib.HorizontalWheel.OnWheelScrollListener;
 
 public class MainActivity extends AppCompatActivity implements OnWheelScrollListener {
 
-    String[] values;
+    NumericWheelAdapter valuesAdapter;
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
 
         AbstractWheel abstractWheel = (AbstractWheel) findViewById(R.id.HorizontalView);
-        values = new String[100];
-        for (int i = 0; i < 100; i++) {
-            values[i] = String.valueOf(25 * (i));
-        }
-
-        ArrayWheelAdapter<String> ampmAdapter = new ArrayWheelAdapter<String>(MainActivity.this, values);
-        ampmAdapter.setItemResource(R.layout.horizontal_wheel_text_centered);
-        ampmAdapter.setItemTextResource(R.id.text);
-        abstractWheel.setViewAdapter(ampmAdapter);
+        valuesAdapter = new NumericWheelAdapter(MainActivity.this, 0, 25 * 99, 25);
+        valuesAdapter.setItemResource(R.layout.horizontal_wheel_text_centered);
+        valuesAdapter.setItemTextResource(R.id.text);
+        abstractWheel.setViewAdapter(valuesAdapter);
         abstractWheel.addScrollingListener(this);
     }
 
@@ -37,6 +32,6 @@ public class MainActivity extends AppCompatActivity implements OnWheelScrollList
     @Override
     public void onScrollingFinished(AbstractWheel wheel) {
 
-        Toast.makeText(getApplicationContext(),""+values[wheel.getCurrentItem()],Toast.LENGTH_LONG).show();
+        Toast.makeText(getApplicationContext(),""+valuesAdapter.getValue(wheel.getCurrentItem()),Toast.LENGTH_LONG).show();
     }
 }
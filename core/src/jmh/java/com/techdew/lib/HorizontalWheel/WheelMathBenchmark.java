@@ -0,0 +1,93 @@
+package com.techdew.lib.HorizontalWheel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-frame computations of the wheel: offset and index updates,
+ * range computation and recycle decisions, for several adapter sizes and visible
+ * item counts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WheelMathBenchmark {
+
+    private static final int ITEM = 96;
+    private static final int WIDTH = 480;
+
+    // scroll deltas of a fling, in pixels per frame
+    private static final int[] DELTAS = {-61, -47, -36, -27, -19, -13, -8, -4, -2, -1};
+
+    @Param({"10", "10000", "10000000"})
+    public int count;
+
+    @Param({"3", "5", "9"})
+    public int visibleItems;
+
+    @Param({"false", "true"})
+    public boolean cyclic;
+
+    private final ItemsRange range = new ItemsRange();
+    private final ItemsRange layoutRange = new ItemsRange();
+    private final ItemsRange kept = new ItemsRange();
+
+    private int currentItem;
+    private int offset;
+    private int frame;
+
+    @Setup
+    public void setUp() {
+        currentItem = count / 2;
+        offset = 0;
+        frame = 0;
+        WheelMath.getItemsRange(layoutRange, currentItem, visibleItems, 0, count, cyclic);
+    }
+
+    @Benchmark
+    public int scroll() {
+        offset += DELTAS[frame++ % DELTAS.length];
+        int items = WheelMath.getScrolledItems(currentItem, offset, ITEM, count, cyclic);
+        long pos = (long) currentItem - items;
+        currentItem = cyclic ? WheelMath.normalizeIndex(pos, count) : (int) pos;
+        offset = WheelMath.getRemainingOffset(offset, items, ITEM, WIDTH);
+        if (!cyclic && (currentItem == 0 || currentItem == count - 1)) {
+            currentItem = count / 2;
+        }
+        return currentItem;
+    }
+
+    @Benchmark
+    public ItemsRange itemsRange() {
+        WheelMath.getItemsRange(range, currentItem + (frame++ & 7), visibleItems,
+                DELTAS[frame % DELTAS.length], count, cyclic);
+        return range;
+    }
+
+    @Benchmark
+    public ItemsRange recycle() {
+        WheelMath.getItemsRange(range, currentItem + (frame++ & 1), visibleItems, 0, count, cyclic);
+        WheelMath.getKeptItems(kept, layoutRange.getFirst(), layoutRange.getCount(), range);
+        return kept;
+    }
+
+    @Benchmark
+    public int justify() {
+        return WheelMath.getJustifyDistance(DELTAS[frame++ % DELTAS.length], (frame & 1) * 2 - 1,
+                ITEM, currentItem, count, cyclic);
+    }
+}
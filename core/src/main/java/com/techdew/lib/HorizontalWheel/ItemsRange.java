@@ -51,6 +51,16 @@ package com.techdew.lib.HorizontalWheel;
             this.count = count;
         }
         
+        /**
+         * Updates the range in place, so it can be reused between frames
+         * @param first the number of first item
+         * @param count the count of items
+         */
+        void set(int first, int count) {
+            this.first = first;
+            this.count = count;
+        }
+
         /**
          * Gets number of  first item
          * @return the number of the first item
@@ -0,0 +1,196 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+/**
+ * Index, offset and range computations of a spinnerwheel, free of Android
+ * dependencies so they can be tested and benchmarked on a plain JVM.
+ * <p>Offsets are in pixels, positive when items move towards the end of the
+ * spinnerwheel, i.e. when items with lower indices come into view.
+ */
+public final class WheelMath {
+
+    /** Scroll direction towards items with higher indices */
+    public static final int DIRECTION_NEXT = 1;
+
+    private WheelMath() {
+    }
+
+    /**
+     * Maps a position of a cyclic spinnerwheel to an item index
+     * @param position the position, any value
+     * @param count the items count, positive
+     * @return the index, within [0, count)
+     */
+    public static int normalizeIndex(long position, int count) {
+        long index = position % count;
+        return (int) (index < 0 ? index + count : index);
+    }
+
+    /**
+     * Tests whether an item exists
+     * @param index the item index
+     * @param count the items count
+     * @param cyclic whether the spinnerwheel is cyclic
+     * @return true if the index refers to an item
+     */
+    public static boolean isValidItemIndex(int index, int count, boolean cyclic) {
+        return count > 0 && (cyclic || (index >= 0 && index < count));
+    }
+
+    /**
+     * Computes the range of items to be shown around the current item
+     * @param range the range to update
+     * @param currentItem the current item index
+     * @param visibleItems the count of visible items
+     * @param offset the scrolling offset
+     * @param count the items count
+     * @param cyclic whether the spinnerwheel is cyclic
+     * @return the position of the current item within the range; it differs from the
+     * current item when a cyclic range is moved back to stay within int
+     */
+    public static int getItemsRange(ItemsRange range, int currentItem, int visibleItems,
+                                    int offset, int count, boolean cyclic) {
+        long start = (long) currentItem - visibleItems / 2;
+        long end = start + visibleItems - (visibleItems % 2 == 0 ? 0 : 1);
+        if (offset != 0) {
+            if (offset > 0) {
+                start--;
+            } else {
+                end++;
+            }
+        }
+        int currentPosition = currentItem;
+        if (!cyclic) {
+            if (start < 0) start = 0;
+            if (end > count) end = count;
+        } else if (end > Integer.MAX_VALUE) {
+            // positions matter only modulo the items count, moving them back keeps them within int
+            start -= count;
+            end -= count;
+            currentPosition -= count;
+        }
+        range.set((int) start, (int) (end - start + 1));
+        return currentPosition;
+    }
+
+    /**
+     * Computes the number of items a scroll passes
+     * @param currentItem the current item index
+     * @param offset the scrolling offset, including the scroll
+     * @param itemDimension the item size along the spinnerwheel
+     * @param count the items count
+     * @param cyclic whether the spinnerwheel is cyclic
+     * @return the number of items passed, positive towards lower indices;
+     * the new current item is the current item minus this number
+     */
+    public static int getScrolledItems(int currentItem, int offset, int itemDimension, int count, boolean cyclic) {
+        int items = offset / itemDimension;
+        long pos = (long) currentItem - items;
+
+        int fixPos = offset % itemDimension;
+        if (Math.abs(fixPos) <= itemDimension / 2) {
+            fixPos = 0;
+        }
+        if (cyclic && count > 0) {
+            if (fixPos > 0) {
+                items++;
+            } else if (fixPos < 0) {
+                items--;
+            }
+        } else {
+            if (pos < 0) {
+                items = currentItem;
+            } else if (pos >= count) {
+                items = currentItem - count + 1;
+            } else if (pos > 0 && fixPos > 0) {
+                items++;
+            } else if (pos < count - 1 && fixPos < 0) {
+                items--;
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Computes the scrolling offset left once the current item has moved
+     * @param offset the scrolling offset, including the scroll
+     * @param items the number of items passed, see {@link #getScrolledItems}
+     * @param itemDimension the item size along the spinnerwheel
+     * @param baseDimension the spinnerwheel size
+     * @return the new scrolling offset
+     */
+    public static int getRemainingOffset(int offset, int items, int itemDimension, int baseDimension) {
+        int remaining = offset - items * itemDimension;
+        if (remaining > baseDimension) {
+            remaining = remaining % baseDimension + baseDimension;
+        }
+        return remaining;
+    }
+
+    /**
+     * Computes the distance to scroll by to align the nearest item with the center.
+     * When the last scroll went the other way, the item next in that direction is
+     * aligned instead, if it exists.
+     * @param offset the scrolling offset
+     * @param direction the direction of the last scroll, {@link #DIRECTION_NEXT} or -1
+     * @param itemDimension the item size along the spinnerwheel
+     * @param currentItem the current item index
+     * @param count the items count
+     * @param cyclic whether the spinnerwheel is cyclic
+     * @return the distance to scroll by
+     */
+    public static int getJustifyDistance(int offset, int direction, int itemDimension,
+                                         int currentItem, int count, boolean cyclic) {
+        if (offset * direction < 0) {
+            if (direction == DIRECTION_NEXT) {
+                if (isValidItemIndex(currentItem + 1, count, cyclic)) {
+                    return offset + itemDimension;
+                }
+            } else if (isValidItemIndex(currentItem - 1, count, cyclic)) {
+                return offset - itemDimension;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Computes which items of a layout are kept when it is recycled
+     * @param kept the range to set to the kept items; when none is kept, it starts
+     *             right after the layout items
+     * @param firstItem the index of the first layout item
+     * @param itemsCount the number of layout items
+     * @param range the range of items to be shown
+     */
+    public static void getKeptItems(ItemsRange kept, int firstItem, int itemsCount, ItemsRange range) {
+        long first = Math.max(firstItem, range.getFirst());
+        long end = Math.min((long) firstItem + itemsCount, (long) range.getFirst() + range.getCount());
+        if (end <= first) {
+            kept.set(firstItem + itemsCount, 0);
+        } else {
+            kept.set((int) first, (int) (end - first));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.techdew.lib.HorizontalWheel;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the index, offset and range computations of the wheel.
+ */
+public class WheelMathTest {
+
+    private static final int ITEM = 100;
+
+    @Test
+    public void indicesAreNormalized() throws Exception {
+        assertEquals(0, WheelMath.normalizeIndex(10, 10));
+        assertEquals(9, WheelMath.normalizeIndex(-1, 10));
+        assertEquals(Integer.MAX_VALUE - 1, WheelMath.normalizeIndex(-1, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void rangeSurroundsCurrentItem() throws Exception {
+        ItemsRange range = new ItemsRange();
+
+        assertEquals(10, WheelMath.getItemsRange(range, 10, 5, 0, 100, false));
+        assertEquals(8, range.getFirst());
+        assertEquals(5, range.getCount());
+
+        WheelMath.getItemsRange(range, 10, 5, -20, 100, false);
+        assertEquals(8, range.getFirst());
+        assertEquals(6, range.getCount());
+
+        WheelMath.getItemsRange(range, 0, 5, 20, 100, false);
+        assertEquals(0, range.getFirst());
+        assertEquals(3, range.getCount());
+    }
+
+    @Test
+    public void cyclicRangeStaysWithinInt() throws Exception {
+        ItemsRange range = new ItemsRange();
+        int count = Integer.MAX_VALUE;
+
+        int position = WheelMath.getItemsRange(range, count - 1, 5, 0, count, true);
+
+        assertEquals(-1, position);
+        assertEquals(-3, range.getFirst());
+        assertEquals(1, range.getLast());
+    }
+
+    @Test
+    public void scrollPassesItemsPastTheirMiddle() throws Exception {
+        assertEquals(0, WheelMath.getScrolledItems(10, 50, ITEM, 100, false));
+        assertEquals(1, WheelMath.getScrolledItems(10, 51, ITEM, 100, false));
+        assertEquals(-3, WheelMath.getScrolledItems(10, -251, ITEM, 100, false));
+        assertEquals(10, WheelMath.getScrolledItems(10, 5000, ITEM, 100, false));
+        assertEquals(50, WheelMath.getScrolledItems(10, 5000, ITEM, 100, true));
+        assertEquals(-30, WheelMath.getRemainingOffset(70, 1, ITEM, 480));
+    }
+
+    @Test
+    public void justifyPrefersScrollDirection() throws Exception {
+        assertEquals(-30, WheelMath.getJustifyDistance(-30, -1, ITEM, 10, 100, false));
+        assertEquals(70, WheelMath.getJustifyDistance(-30, WheelMath.DIRECTION_NEXT, ITEM, 10, 100, false));
+        assertEquals(-30, WheelMath.getJustifyDistance(-30, WheelMath.DIRECTION_NEXT, ITEM, 99, 100, false));
+    }
+
+    @Test
+    public void recyclingKeepsItemsInRange() throws Exception {
+        ItemsRange kept = new ItemsRange();
+
+        WheelMath.getKeptItems(kept, 10, 5, new ItemsRange(12, 5));
+        assertEquals(12, kept.getFirst());
+        assertEquals(3, kept.getCount());
+
+        WheelMath.getKeptItems(kept, 10, 5, new ItemsRange());
+        assertEquals(15, kept.getFirst());
+        assertEquals(0, kept.getCount());
+    }
+}
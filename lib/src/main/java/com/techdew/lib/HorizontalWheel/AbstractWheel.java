@@ -30,15 +30,15 @@ import android.database.DataSetObserver;
 import android.os.Parcel;
 import android.os.Parcelable;
 import android.util.AttributeSet;
+import android.view.Display;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.animation.Interpolator;
-import android.widget.LinearLayout;
 
 import com.techdew.lib.R;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.concurrent.Executor;
+
 
 public abstract class AbstractWheel extends View {
 
@@ -49,14 +49,33 @@ public abstract class AbstractWheel extends View {
     private final String LOG_TAG = AbstractWheel.class.getName() + " #" + (++itemID);
 
     private static final int DEF_VISIBLE_ITEMS = 4;
+    private static final ItemsRange EMPTY_RANGE = new ItemsRange();
     private static final boolean DEF_IS_CYCLIC = false;
 
+    /** Change listeners are notified about every item the spinnerwheel passes */
+    public static final int CHANGE_DISPATCH_ITEM = 0;
+
+    /** Changes are conflated, listeners are notified at most once per display frame */
+    public static final int CHANGE_DISPATCH_FRAME = 1;
+
+    /** Changes made while scrolling are conflated, listeners are notified when scrolling finishes */
+    public static final int CHANGE_DISPATCH_SETTLED = 2;
+
+    private static final int DEF_CHANGE_DISPATCH_MODE = CHANGE_DISPATCH_ITEM;
+
     //----------------------------------
     //  Class properties
     //----------------------------------
 
     protected int mCurrentItemIdx = 0;
 
+    // Position of the current item in the frame of mItemsRange and mFirstItemIdx.
+    // It differs from mCurrentItemIdx when a cyclic range is moved back to stay within int.
+    protected int mCurrentItemPosition = 0;
+
+    // Items count of the adapter, taken once per frame, see updateItemsCount()
+    protected int mItemsCount;
+
     // Count of visible items
     protected int mVisibleItems;
     // Should all items be visible
@@ -69,12 +88,21 @@ public abstract class AbstractWheel extends View {
     protected boolean mIsScrollingPerformed;
     protected int mScrollingOffset;
 
+    // Item the running fling is predicted to stop at, -1 if there is no fling
+    private int mScrollTargetItem = -1;
+
+    // Max number of items a programmatic scroll passes through, 0 for no limit
+    private int mScrollWarpItems;
+
     // Items layout
-    protected LinearLayout mItemsLayout;
+    protected WheelItemsLayout mItemsLayout;
 
     // The number of first item in layout
     protected int mFirstItemIdx;
 
+    // Range of items to be shown, reused between frames
+    protected final ItemsRange mItemsRange = new ItemsRange();
+
     // View adapter
     protected WheelViewAdapter mViewAdapter;
 
@@ -84,14 +112,46 @@ public abstract class AbstractWheel extends View {
     // Recycle
     private WheelRecycler mRecycler = new WheelRecycler(this);
 
+    // Drawing and work counters, null unless enabled
+    protected WheelMetrics mMetrics;
+
+    // Whether all item views are to be rebound, set when the adapter data has changed
+    private boolean mRebindAllItems;
+
     // Listeners
-    private List<OnWheelChangedListener> changingListeners = new LinkedList<OnWheelChangedListener>();
-    private List<OnWheelScrollListener> scrollingListeners = new LinkedList<OnWheelScrollListener>();
-    private List<OnWheelClickedListener> clickingListeners = new LinkedList<OnWheelClickedListener>();
+    private final WheelListeners<OnWheelChangedListener> changingListeners =
+            new WheelListeners<OnWheelChangedListener>(new OnWheelChangedListener[0]);
+    private final WheelListeners<OnWheelScrollListener> scrollingListeners =
+            new WheelListeners<OnWheelScrollListener>(new OnWheelScrollListener[0]);
+    private final WheelListeners<OnWheelClickedListener> clickingListeners =
+            new WheelListeners<OnWheelClickedListener>(new OnWheelClickedListener[0]);
+    private final WheelListeners<OnWheelFlingListener> flingListeners =
+            new WheelListeners<OnWheelFlingListener>(new OnWheelFlingListener[0]);
+    private final WheelListeners<OnWheelProgressListener> progressListeners =
+            new WheelListeners<OnWheelProgressListener>(new OnWheelProgressListener[0]);
+
+    // Last position reported to progress listeners, NaN if none
+    private double mProgressPosition = Double.NaN;
+    private long mProgressTime;
 
     private DataSetObserver mDataObserver;
     public int              mLastTempDirection;
 
+    // How change listeners are notified, see CHANGE_DISPATCH_ITEM
+    private int mChangeDispatchMode;
+
+    // Conflated change waiting to be dispatched
+    private boolean mChangePending;
+    private int mPendingChangeOldValue;
+    private int mPendingChangeNewValue;
+
+    private final Runnable mDispatchChangeRunnable = new Runnable() {
+        @Override
+        public void run() {
+            dispatchPendingChange();
+        }
+    };
+
 
     public AbstractWheel(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs);
@@ -104,20 +164,48 @@ public abstract class AbstractWheel extends View {
         mVisibleItems = a.getInt( R.styleable.AbstractWheelView_visibleItems, DEF_VISIBLE_ITEMS);
         mIsAllVisible = a.getBoolean( R.styleable.AbstractWheelView_isAllVisible, false);
         mIsCyclic = a.getBoolean( R.styleable.AbstractWheelView_isCyclic, DEF_IS_CYCLIC);
+        mChangeDispatchMode = a.getInt(R.styleable.AbstractWheelView_changeDispatchMode, DEF_CHANGE_DISPATCH_MODE);
         a.recycle();
     }
 
 
     protected void initData(Context context) {
 
-        mDataObserver = new DataSetObserver() {
+        mDataObserver = new WheelDataSetObserver() {
             @Override
             public void onChanged() {
-                invalidateItemsLayout(false);
+                updateItemsCount();
+                onItemsDataChanged();
+                // item views stay attached and are rebound in place on the next rebuild
+                mRebindAllItems = true;
+                invalidate();
+            }
+
+            @Override
+            public void onItemRangeChanged(int start, int count) {
+                updateItemsCount();
+                onItemsRangeChanged(start, count);
+                invalidateItemViews(start, count);
+            }
+
+            @Override
+            public void onItemRangeInserted(int start, int count) {
+                updateItemsCount();
+                onItemsShifted(start, count, count);
+                shiftItems(start, count, count);
+            }
+
+            @Override
+            public void onItemRangeRemoved(int start, int count) {
+                updateItemsCount();
+                onItemsShifted(start, count, -count);
+                shiftItems(start, count, -count);
             }
 
             @Override
             public void onInvalidated() {
+                updateItemsCount();
+                onItemsDataChanged();
                 invalidateItemsLayout(true);
             }
         };
@@ -132,6 +220,7 @@ public abstract class AbstractWheel extends View {
             }
 
             public void onTouch() {
+                mScrollTargetItem = -1;
                 onScrollTouched();
             }
 
@@ -145,6 +234,24 @@ public abstract class AbstractWheel extends View {
                 mLastTempDirection = direction;
             }
 
+            @Override
+            public int onFlingLanding(int distance) {
+                int itemDimension = getItemDimension();
+                if (itemDimension <= 0 || mItemsCount == 0) {
+                    return distance;
+                }
+                // number of items the fling passes, it ends on the boundary of the closest item
+                long items = Math.round(((long) mScrollingOffset + distance) / (double) itemDimension);
+                long target = (long) mCurrentItemIdx - items;
+                if (!mIsCyclic) {
+                    target = Math.max(0, Math.min(mItemsCount - 1, target));
+                    items = mCurrentItemIdx - target;
+                }
+                mScrollTargetItem = normalizeIndex(target);
+                notifyFlingListenersAboutTarget(mScrollTargetItem);
+                return (int) (items * itemDimension - mScrollingOffset);
+            }
+
             public void onScroll(int distance) {
                 doScroll(distance);
 
@@ -159,9 +266,13 @@ public abstract class AbstractWheel extends View {
             }
 
             public void onFinished() {
+                mScrollTargetItem = -1;
                 if (mIsScrollingPerformed) {
-                    notifyScrollingListenersAboutEnd();
                     mIsScrollingPerformed = false;
+                    if (mChangeDispatchMode == CHANGE_DISPATCH_SETTLED) {
+                        dispatchPendingChange();
+                    }
+                    notifyScrollingListenersAboutEnd();
                     onScrollFinished();
                 }
 
@@ -171,26 +282,9 @@ public abstract class AbstractWheel extends View {
 
             public void onJustify() {
                 if (Math.abs(mScrollingOffset) > WheelScroller.MIN_DELTA_FOR_SCROLLING) {
-                    boolean handled = false;
-                    final int scrollOffsetDirection = mScrollingOffset;
-
                     // if justify direction is not fling direction, try make it be
-                    if (scrollOffsetDirection * mLastTempDirection < 0) {
-                        if (mLastTempDirection == WheelScroller.SCROLL_DIRECTION_UP) {
-                            if(isValidItemIndex(mCurrentItemIdx + 1)) {
-                                mScroller.scroll(mScrollingOffset + getItemDimension(), 0);
-                                handled = true;
-                            }
-                        } else {
-                            if(isValidItemIndex(mCurrentItemIdx - 1)) {
-                                mScroller.scroll(mScrollingOffset - getItemDimension(), 0);
-                                handled = true;
-                            }
-                        }
-                    }
-
-                    // default justify
-                    if (!handled) mScroller.scroll(mScrollingOffset, 0);
+                    mScroller.scroll(WheelMath.getJustifyDistance(mScrollingOffset, mLastTempDirection,
+                            getItemDimension(), mCurrentItemIdx, mViewAdapter != null ? mItemsCount : 0, mIsCyclic), 0);
                 }
             }
         });
@@ -280,6 +374,35 @@ public abstract class AbstractWheel extends View {
     protected void onScrollFinished() {
     }
 
+    /**
+     * Called when the adapter reports that its data has changed or become invalid,
+     * before items are invalidated. Subclasses drop data derived caches here.
+     */
+    protected void onItemsDataChanged() {
+    }
+
+    /**
+     * Called when the adapter reports that data of some items has changed, item
+     * positions being kept. Subclasses drop data derived caches of these items here.
+     *
+     * @param start the index of the first changed item
+     * @param count the number of changed items
+     */
+    protected void onItemsRangeChanged(int start, int count) {
+    }
+
+    /**
+     * Called when the adapter reports that items have been inserted or removed.
+     * Items after the change move by delta. Subclasses move or drop caches kept by
+     * item index here, caches of items before the change stay valid.
+     *
+     * @param start the index of the first inserted or removed item
+     * @param count the number of items
+     * @param delta the change of the items count
+     */
+    protected void onItemsShifted(int start, int count, int delta) {
+    }
+
 
     public void stopScrolling() {
         mScroller.stopScrolling();
@@ -291,7 +414,38 @@ public abstract class AbstractWheel extends View {
     }
 
 
+    /**
+     * Sets the max number of items a programmatic scroll, like
+     * {@link #setCurrentItem(int, boolean)}, passes through. Longer scrolls first jump
+     * close to the target item, and only the last items are animated, so their
+     * cost and the number of change notifications do not depend on the distance.
+     *
+     * @param items the max number of animated items, 0 to animate through all items
+     */
+    public void setScrollWarpItems(int items) {
+        mScrollWarpItems = Math.max(0, items);
+    }
+
+    public int getScrollWarpItems() {
+        return mScrollWarpItems;
+    }
+
     public void scroll(int itemsToScroll, int time) {
+        if (mScrollWarpItems > 0 && Math.abs(itemsToScroll) > mScrollWarpItems && mItemsCount > 0) {
+            // jumping to the item the animation starts from, listeners are notified once
+            int animated = itemsToScroll > 0 ? mScrollWarpItems : -mScrollWarpItems;
+            long target = (long) mCurrentItemIdx + itemsToScroll;
+            long start = target - animated;
+            if (mIsCyclic) {
+                start = normalizeIndex(start);
+            } else {
+                target = Math.max(0, Math.min(mItemsCount - 1, target));
+                start = Math.max(0, Math.min(mItemsCount - 1, target - animated));
+                animated = (int) (target - start);
+            }
+            setCurrentItem((int) start, false);
+            itemsToScroll = animated;
+        }
         int distance = itemsToScroll * getItemDimension() - mScrollingOffset;
         onScrollTouched(); // we have to emulate touch when scrolling spinnerwheel programmatically to light up stuff
         mScroller.scroll(distance, time);
@@ -303,61 +457,38 @@ public abstract class AbstractWheel extends View {
     }
 
 
+    /**
+     * Sets the time source and frame scheduler of scroll animations, e.g. to step
+     * flings frame by frame in tests
+     * @param clock the frame clock
+     */
+    public void setFrameClock(WheelScroller.FrameClock clock) {
+        mScroller.setFrameClock(clock);
+    }
+
+
     private void doScroll(int delta) {
         mScrollingOffset += delta;
 
         int itemDimension = getItemDimension();
-        int count = mScrollingOffset / itemDimension;
+        int count = WheelMath.getScrolledItems(mCurrentItemIdx, mScrollingOffset, itemDimension,
+                mItemsCount, mIsCyclic);
 
-        int pos = mCurrentItemIdx - count;
-        int itemCount = mViewAdapter.getItemsCount();
-
-        int fixPos = mScrollingOffset % itemDimension;
-        if (Math.abs(fixPos) <= itemDimension / 2) {
-            fixPos = 0;
-        }
-        if (mIsCyclic && itemCount > 0) {
-            if (fixPos > 0) {
-                pos--;
-                count++;
-            } else if (fixPos < 0) {
-                pos++;
-                count--;
-            }
+        long pos = (long) mCurrentItemIdx - count;
+        if (mIsCyclic && mItemsCount > 0) {
             // fix position by rotating
-            while (pos < 0) {
-                pos += itemCount;
-            }
-            pos %= itemCount;
-        } else {
-            if (pos < 0) {
-                count = mCurrentItemIdx;
-                pos = 0;
-            } else if (pos >= itemCount) {
-                count = mCurrentItemIdx - itemCount + 1;
-                pos = itemCount - 1;
-            } else if (pos > 0 && fixPos > 0) {
-                pos--;
-                count++;
-            } else if (pos < itemCount - 1 && fixPos < 0) {
-                pos++;
-                count--;
-            }
+            pos = normalizeIndex(pos);
         }
 
         int offset = mScrollingOffset;
         if (pos != mCurrentItemIdx) {
-            setCurrentItem(pos, false);
+            setCurrentItem((int) pos, false);
         } else {
             invalidate();
         }
 
         // update offset
-        int baseDimension = getBaseDimension();
-        mScrollingOffset = offset - count * itemDimension;
-        if (mScrollingOffset > baseDimension) {
-            mScrollingOffset = mScrollingOffset % baseDimension + baseDimension;
-        }
+        mScrollingOffset = WheelMath.getRemainingOffset(offset, count, itemDimension, getBaseDimension());
     }
 
 
@@ -381,7 +512,9 @@ public abstract class AbstractWheel extends View {
         if (changed) {
             int w = r - l;
             int h = b - t;
-            doItemsLayout();
+            if (mItemsLayout != null) {
+                doItemsLayout();
+            }
             if (mLayoutWidth != w || mLayoutHeight != h) {
                 recreateAssets(getMeasuredWidth(), getMeasuredHeight());
             }
@@ -393,14 +526,15 @@ public abstract class AbstractWheel extends View {
 
     public void invalidateItemsLayout(boolean clearCaches) {
         if (clearCaches) {
+            mRebindAllItems = false;
             mRecycler.clearAll();
             if (mItemsLayout != null) {
-                mItemsLayout.removeAllViews();
+                mItemsLayout.removeAllItems();
             }
             mScrollingOffset = 0;
         } else if (mItemsLayout != null) {
             // cache all items
-            mRecycler.recycleItems(mItemsLayout, mFirstItemIdx, new ItemsRange());
+            mRecycler.recycleItems(mItemsLayout, mFirstItemIdx, EMPTY_RANGE);
         }
         invalidate();
     }
@@ -416,6 +550,91 @@ public abstract class AbstractWheel extends View {
         mVisibleItems = count;
     }
 
+    /**
+     * Sets the max number of recycled item views kept per view type
+     * @param max the max count, 0 to keep as many views as the spinnerwheel shows
+     */
+    public void setMaxRecycledItems(int max) {
+        mRecycler.setMaxPoolSize(max);
+    }
+
+    public int getMaxRecycledItems() {
+        return mRecycler.getMaxPoolSize();
+    }
+
+
+    /**
+     * Enables trace sections around the rebuilding, measuring, laying out, drawing
+     * and binding of items and around scroller frames, for all spinnerwheels.
+     * The sections are shown in system traces on Android 4.3 and later.
+     * @param enabled whether the trace sections are enabled
+     */
+    public static void setTracingEnabled(boolean enabled) {
+        WheelTrace.enabled = enabled;
+    }
+
+
+    /**
+     * Enables collecting drawing and work counters, see {@link WheelMetrics}.
+     * Disabling the metrics drops the counters collected so far.
+     * @param enabled whether the metrics are collected
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        if (!enabled) {
+            mMetrics = null;
+        } else if (mMetrics == null) {
+            mMetrics = new WheelMetrics();
+            updateMetricsFrameInterval();
+        }
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        // the display, and so its refresh rate, is known only once attached
+        updateMetricsFrameInterval();
+    }
+
+    private void updateMetricsFrameInterval() {
+        Display display = getDisplay();
+        if (mMetrics != null && display != null && display.getRefreshRate() > 0) {
+            mMetrics.frameIntervalNanos = (long) (1000000000L / display.getRefreshRate());
+        }
+    }
+
+    public boolean isMetricsEnabled() {
+        return mMetrics != null;
+    }
+
+    /**
+     * Copies the metrics collected so far, without allocating
+     * @param out the object to copy the metrics to, reset if the metrics are not enabled
+     */
+    public void getMetrics(WheelMetrics out) {
+        if (mMetrics != null) {
+            mMetrics.copyTo(out);
+        } else {
+            out.reset();
+        }
+    }
+
+    /**
+     * Sets the metrics collected so far to zero
+     */
+    public void resetMetrics() {
+        if (mMetrics != null) {
+            mMetrics.reset();
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        if (mMetrics != null) {
+            mMetrics.invalidates++;
+        }
+    }
+
 
     public void setAllItemsVisible(boolean isAllVisible) {
         mIsAllVisible = isAllVisible;
@@ -436,6 +655,8 @@ public abstract class AbstractWheel extends View {
         if (this.mViewAdapter != null) {
             this.mViewAdapter.registerDataSetObserver(mDataObserver);
         }
+        mRecycler.setViewTypeCount(viewAdapter != null ? viewAdapter.getViewTypeCount() : 0);
+        updateItemsCount();
         invalidateItemsLayout(true);
     }
 
@@ -446,17 +667,14 @@ public abstract class AbstractWheel extends View {
 
 
     public void setCurrentItem(int index, boolean animated) {
-        if (mViewAdapter == null || mViewAdapter.getItemsCount() == 0) {
+        if (mViewAdapter == null || mItemsCount == 0) {
             return; // throw?
         }
 
-        int itemCount = mViewAdapter.getItemsCount();
+        int itemCount = mItemsCount;
         if (index < 0 || index >= itemCount) {
             if (mIsCyclic) {
-                while (index < 0) {
-                    index += itemCount;
-                }
-                index %= itemCount;
+                index = normalizeIndex(index);
             } else {
                 return; // throw?
             }
@@ -465,7 +683,7 @@ public abstract class AbstractWheel extends View {
             if (animated) {
                 int itemsToScroll = index - mCurrentItemIdx;
                 if (mIsCyclic) {
-                    int scroll = itemCount + Math.min(index, mCurrentItemIdx) - Math.max(index, mCurrentItemIdx);
+                    int scroll = itemCount - (Math.max(index, mCurrentItemIdx) - Math.min(index, mCurrentItemIdx));
                     if (scroll < Math.abs(itemsToScroll)) {
                         itemsToScroll = itemsToScroll < 0 ? scroll : -scroll;
                     }
@@ -504,13 +722,83 @@ public abstract class AbstractWheel extends View {
     }
 
 
+    /**
+     * Adds a change listener notified through the executor, off the UI thread when
+     * the executor uses other threads. Changes are delivered one at a time; the ones
+     * made while the listener is busy are conflated into a single change to the
+     * latest item.
+     * <p>The listener must not touch the spinnerwheel from other threads.
+     * @param listener the listener
+     * @param executor the executor running the notifications
+     */
+    public void addChangingListener(OnWheelChangedListener listener, Executor executor) {
+        changingListeners.add(new ExecutorChangedListener(listener, executor));
+    }
+
+
     public void removeChangingListener(OnWheelChangedListener listener) {
+        for (OnWheelChangedListener added : changingListeners.get()) {
+            if (added instanceof ExecutorChangedListener
+                    && ((ExecutorChangedListener) added).listener == listener) {
+                changingListeners.remove(added);
+                ((ExecutorChangedListener) added).remove();
+                return;
+            }
+        }
         changingListeners.remove(listener);
     }
 
 
+    /**
+     * Sets how change listeners are notified while the spinnerwheel passes items
+     * @param mode {@link #CHANGE_DISPATCH_ITEM}, {@link #CHANGE_DISPATCH_FRAME}
+     *             or {@link #CHANGE_DISPATCH_SETTLED}
+     */
+    public void setChangeDispatchMode(int mode) {
+        if (mChangeDispatchMode != mode) {
+            mChangeDispatchMode = mode;
+            dispatchPendingChange();
+        }
+    }
+
+    public int getChangeDispatchMode() {
+        return mChangeDispatchMode;
+    }
+
     protected void notifyChangingListeners(int oldValue, int newValue) {
-        for (OnWheelChangedListener listener : changingListeners) {
+        if (mChangeDispatchMode == CHANGE_DISPATCH_ITEM
+                || (mChangeDispatchMode == CHANGE_DISPATCH_SETTLED && !mIsScrollingPerformed)) {
+            dispatchPendingChange(); // keeping the order of changes
+            dispatchChange(oldValue, newValue);
+            return;
+        }
+
+        // conflating with the change waiting to be dispatched
+        if (!mChangePending) {
+            mChangePending = true;
+            mPendingChangeOldValue = oldValue;
+            if (mChangeDispatchMode == CHANGE_DISPATCH_FRAME) {
+                postOnAnimation(mDispatchChangeRunnable);
+            }
+        }
+        mPendingChangeNewValue = newValue;
+    }
+
+    /**
+     * Notifies listeners about the conflated change, if any
+     */
+    private void dispatchPendingChange() {
+        if (mChangePending) {
+            mChangePending = false;
+            removeCallbacks(mDispatchChangeRunnable);
+            if (mPendingChangeOldValue != mPendingChangeNewValue) {
+                dispatchChange(mPendingChangeOldValue, mPendingChangeNewValue);
+            }
+        }
+    }
+
+    private void dispatchChange(int oldValue, int newValue) {
+        for (OnWheelChangedListener listener : changingListeners.get()) {
             listener.onChanged(this, oldValue, newValue);
         }
     }
@@ -527,18 +815,90 @@ public abstract class AbstractWheel extends View {
 
 
     protected void notifyScrollingListenersAboutStart() {
-        for (OnWheelScrollListener listener : scrollingListeners) {
+        for (OnWheelScrollListener listener : scrollingListeners.get()) {
             listener.onScrollingStarted(this);
         }
     }
 
     protected void notifyScrollingListenersAboutEnd() {
-        for (OnWheelScrollListener listener : scrollingListeners) {
+        for (OnWheelScrollListener listener : scrollingListeners.get()) {
             listener.onScrollingFinished(this);
         }
     }
 
 
+    public void addFlingListener(OnWheelFlingListener listener) {
+        flingListeners.add(listener);
+    }
+
+
+    public void removeFlingListener(OnWheelFlingListener listener) {
+        flingListeners.remove(listener);
+    }
+
+    protected void notifyFlingListenersAboutTarget(int targetItem) {
+        for (OnWheelFlingListener listener : flingListeners.get()) {
+            listener.onFlingTargetPredicted(this, targetItem);
+        }
+    }
+
+    public void addProgressListener(OnWheelProgressListener listener) {
+        progressListeners.add(listener);
+    }
+
+
+    public void removeProgressListener(OnWheelProgressListener listener) {
+        progressListeners.remove(listener);
+    }
+
+    /**
+     * Notifies progress listeners about the position drawn by the current frame,
+     * if it has changed since the last notification
+     */
+    protected void notifyProgressListeners() {
+        int itemDimension = getItemDimension();
+        if (itemDimension == 0 || mItemsCount == 0) {
+            return;
+        }
+        double position = mCurrentItemIdx - mScrollingOffset / (double) itemDimension;
+        if (mIsCyclic && position < 0) {
+            position += mItemsCount;
+        }
+        if (position == mProgressPosition) {
+            return;
+        }
+
+        long time = mScroller.now();
+        float velocity = 0;
+        if (!Double.isNaN(mProgressPosition) && time > mProgressTime) {
+            double delta = position - mProgressPosition;
+            if (mIsCyclic) {
+                // taking the short way around
+                if (delta > mItemsCount / 2.0) {
+                    delta -= mItemsCount;
+                } else if (delta < -mItemsCount / 2.0) {
+                    delta += mItemsCount;
+                }
+            }
+            velocity = (float) (delta * 1000 / (time - mProgressTime));
+        }
+        mProgressPosition = position;
+        mProgressTime = time;
+
+        for (OnWheelProgressListener listener : progressListeners.get()) {
+            listener.onScrollProgress(this, position, velocity);
+        }
+    }
+
+    /**
+     * Gets the item the running fling is predicted to stop at
+     * @return the item index, or -1 if the spinnerwheel is not flung
+     */
+    public int getScrollTargetItem() {
+        return mScrollTargetItem;
+    }
+
+
     public void addClickingListener(OnWheelClickedListener listener) {
         clickingListeners.add(listener);
     }
@@ -550,13 +910,25 @@ public abstract class AbstractWheel extends View {
 
 
     protected void notifyClickListenersAboutClick(int item) {
-        for (OnWheelClickedListener listener : clickingListeners) {
+        for (OnWheelClickedListener listener : clickingListeners.get()) {
             listener.onItemClicked(this, item);
         }
     }
 
 
     protected boolean rebuildItems() {
+        WheelTrace.beginSection(WheelTrace.REBUILD_ITEMS);
+        try {
+            return rebuildItemViews();
+        } finally {
+            WheelTrace.endSection();
+        }
+    }
+
+    private boolean rebuildItemViews() {
+        if (mMetrics != null) {
+            mMetrics.rebuilds++;
+        }
         boolean updated;
         ItemsRange range = getItemsRange();
 
@@ -570,7 +942,7 @@ public abstract class AbstractWheel extends View {
         }
 
         if (!updated) {
-            updated = mFirstItemIdx != range.getFirst() || mItemsLayout.getChildCount() != range.getCount();
+            updated = mFirstItemIdx != range.getFirst() || mItemsLayout.getItemCount() != range.getCount();
         }
 
         if (mFirstItemIdx > range.getFirst() && mFirstItemIdx <= range.getLast()) {
@@ -585,74 +957,261 @@ public abstract class AbstractWheel extends View {
         }
 
         int first = mFirstItemIdx;
-        for (int i = mItemsLayout.getChildCount(); i < range.getCount(); i++) {
-            if (!addItemView(mFirstItemIdx + i, false) && mItemsLayout.getChildCount() == 0) {
+        for (int i = mItemsLayout.getItemCount(); i < range.getCount(); i++) {
+            if (!addItemView(mFirstItemIdx + i, false) && mItemsLayout.getItemCount() == 0) {
                 first++;
             }
         }
         mFirstItemIdx = first;
 
+        if (rebindItems()) {
+            updated = true;
+        }
         return updated;
     }
 
+    /**
+     * Rebinds item views that were bound with another selected state or with
+     * changed data. Views are rebound in place, other views stay untouched.
+     *
+     * @return true if any view was rebound
+     */
+    private boolean rebindItems() {
+        boolean rebound = false;
+        for (int i = 0; i < mItemsLayout.getItemCount(); i++) {
+            View view = mItemsLayout.getItemAt(i);
+            int index = mFirstItemIdx + i;
+            if (!mRebindAllItems && !isItemViewStale(view, index)) {
+                continue;
+            }
+            View bound = getItemView(index, view);
+            if (bound == null && !isValidItemIndex(index)) {
+                // the adapter has no empty items, empty items are at the ends of the layout
+                mItemsLayout.removeItems(i, 1);
+                mRecycler.recycleItem(view);
+                if (i == 0) {
+                    mFirstItemIdx++;
+                }
+                i--;
+            } else if (bound != null && bound != view) {
+                mRecycler.recycleItem(view);
+                mItemsLayout.setItemAt(i, bound);
+            } else if (bound != null) {
+                // a view rebound in place may have changed its size
+                mItemsLayout.invalidateItem(i);
+            }
+            rebound = true;
+        }
+        mRebindAllItems = false;
+        return rebound;
+    }
 
-    private ItemsRange getItemsRange() {
+    /**
+     * Marks item views showing items of specified range for rebinding
+     */
+    private void invalidateItemViews(int start, int count) {
+        if (mItemsLayout == null || mViewAdapter == null || mItemsCount == 0) {
+            return;
+        }
+        for (int i = 0; i < mItemsLayout.getItemCount(); i++) {
+            int index = mFirstItemIdx + i;
+            if (!isValidItemIndex(index)) {
+                continue;
+            }
+            index = normalizeIndex(index);
+            if (index >= start && index < start + count) {
+                // a view without bound state is stale, see isItemViewStale()
+                mItemsLayout.getItemAt(i).setTag(R.id.wheel_item_selected_state, null);
+            }
+        }
+        invalidate();
+    }
+
+    /**
+     * Moves the current item and item views after items have been inserted or removed,
+     * so the current item stays selected. Only views whose item has changed are rebound.
+     *
+     * @param start the index of the first inserted or removed item
+     * @param count the number of items
+     * @param delta the change of the items count
+     */
+    private void shiftItems(int start, int count, int delta) {
+        int itemsCount = mItemsCount;
+        int oldItemsCount = itemsCount - delta;
+        if (itemsCount <= 0 || oldItemsCount <= 0) {
+            invalidateItemsLayout(true);
+            return;
+        }
+
+        int oldCurrent = mCurrentItemIdx;
+        if (mCurrentItemIdx >= start + count || (delta > 0 && mCurrentItemIdx >= start)) {
+            mCurrentItemIdx += delta;
+        } else if (mCurrentItemIdx >= start) {
+            // the current item has been removed, the next one takes its place
+            mCurrentItemIdx = Math.min(start, itemsCount - 1);
+        }
+
+        if (mItemsLayout != null) {
+            int oldFirst = mFirstItemIdx;
+            mFirstItemIdx += mCurrentItemIdx - oldCurrent;
+            for (int i = 0; i < mItemsLayout.getItemCount(); i++) {
+                int oldIndex = getItemOf(oldFirst + i, oldItemsCount);
+                int index = getItemOf(mFirstItemIdx + i, itemsCount);
+                // the item now shown by the view, as it was indexed before the change
+                int movedIndex = index < start ? index : (delta > 0
+                        ? (index >= start + count ? index - count : -1)
+                        : index + count);
+                if (index < 0 || oldIndex < 0 || movedIndex != oldIndex) {
+                    mItemsLayout.getItemAt(i).setTag(R.id.wheel_item_selected_state, null);
+                }
+            }
+        }
+
+        if (oldCurrent != mCurrentItemIdx) {
+            notifyChangingListeners(oldCurrent, mCurrentItemIdx);
+        }
+        invalidate();
+    }
+
+    /**
+     * Gets the item shown at specified position for the items count
+     * @return the item index, or -1 for an empty item
+     */
+    private int getItemOf(int index, int itemsCount) {
+        if (!mIsCyclic) {
+            return index >= 0 && index < itemsCount ? index : -1;
+        }
+        index %= itemsCount;
+        return index < 0 ? index + itemsCount : index;
+    }
+
+    /**
+     * Checks whether the view displays specified item the way it should be displayed now
+     */
+    private boolean isItemViewStale(View view, int index) {
+        if (!isValidItemIndex(index)) {
+            return view.getTag(R.id.wheel_item_view_type) != null;
+        }
+        Boolean selected = (Boolean) view.getTag(R.id.wheel_item_selected_state);
+        if (selected == null) {
+            return true;
+        }
+        return selected != (normalizeIndex(index) == mCurrentItemIdx);
+    }
+
+    /**
+     * Takes the items count of the adapter. It is taken once per frame and
+     * on adapter notifications, and used instead of querying the adapter.
+     */
+    protected void updateItemsCount() {
+        mItemsCount = mViewAdapter != null ? mViewAdapter.getItemsCount() : 0;
+    }
+
+    /**
+     * Gets the index of the item shown at specified position, rotating the position
+     * in cyclic mode. The items count must not be 0.
+     *
+     * @param position the item position
+     * @return the item index from 0 to the items count - 1
+     */
+    protected int normalizeIndex(long position) {
+        return WheelMath.normalizeIndex(position, mItemsCount);
+    }
+
+
+    ItemsRange getItemsRange() {
         if (mIsAllVisible) {
             int baseDimension = getBaseDimension();
             int itemDimension = getItemDimension();
             if (itemDimension != 0) mVisibleItems = baseDimension / itemDimension + 1;
         }
 
-        int start = mCurrentItemIdx - mVisibleItems / 2;
-        int end = start + mVisibleItems - (mVisibleItems % 2 == 0 ? 0 : 1);
-        if (mScrollingOffset != 0) {
-            if (mScrollingOffset > 0) {
-                start--;
-            } else {
-                end++;
-            }
-        }
-        if (!isCyclic()) {
-            if (start < 0) start = 0;
-            if (mViewAdapter == null) end = 0;
-            else if (end > mViewAdapter.getItemsCount()) end = mViewAdapter.getItemsCount();
-        }
-        return new ItemsRange(start, end - start + 1);
+        mCurrentItemPosition = WheelMath.getItemsRange(mItemsRange, mCurrentItemIdx, mVisibleItems,
+                mScrollingOffset, mViewAdapter != null ? mItemsCount : 0, isCyclic());
+        return mItemsRange;
     }
 
     protected boolean isValidItemIndex(int index) {
-        return (mViewAdapter != null) && (mViewAdapter.getItemsCount() > 0) &&
-                (mIsCyclic || (index >= 0 && index < mViewAdapter.getItemsCount()));
+        return (mViewAdapter != null) && WheelMath.isValidItemIndex(index, mItemsCount, mIsCyclic);
     }
 
 
     private boolean addItemView(int index, boolean first) {
-        View view = getItemView(index);
+        View view = getItemView(index, null);
         if (view != null) {
             if (first) {
-                mItemsLayout.addView(view, 0);
+                mItemsLayout.addFirst(view);
             } else {
-                mItemsLayout.addView(view);
+                mItemsLayout.addLast(view);
             }
             return true;
         }
         return false;
     }
 
-    private View getItemView(int index) {
-        if (mViewAdapter == null || mViewAdapter.getItemsCount() == 0) {
+    private View getItemView(int index, View convertView) {
+        if (mViewAdapter == null || mItemsCount == 0) {
             return null;
         }
-        int count = mViewAdapter.getItemsCount();
         if (!isValidItemIndex(index)) {
-            return mViewAdapter.getEmptyItem(mRecycler.getEmptyItem(), mItemsLayout);
-        } else {
-            while (index < 0) {
-                index = count + index;
+            if (convertView == null || convertView.getTag(R.id.wheel_item_view_type) != null) {
+                convertView = mRecycler.getEmptyItem();
+                countRecycled(convertView);
+            }
+            View view;
+            WheelTrace.beginSection(WheelTrace.BIND_ITEM);
+            try {
+                view = mViewAdapter.getEmptyItem(convertView, mItemsLayout);
+            } finally {
+                WheelTrace.endSection();
+            }
+            countBound(view, convertView);
+            if (view != null) {
+                view.setTag(R.id.wheel_item_selected_state, null);
+                view.setTag(R.id.wheel_item_view_type, null);
+            }
+            return view;
+        }
+        index = normalizeIndex(index);
+        int viewType = mViewAdapter.getItemViewType(index);
+        Integer boundType = convertView != null ? (Integer) convertView.getTag(R.id.wheel_item_view_type) : null;
+        if (boundType == null || boundType != viewType) {
+            convertView = mRecycler.getItem(viewType);
+            countRecycled(convertView);
+        }
+        View view;
+        WheelTrace.beginSection(WheelTrace.BIND_ITEM);
+        try {
+            view = mViewAdapter.getItem(index, convertView, mItemsLayout, mCurrentItemIdx);
+        } finally {
+            WheelTrace.endSection();
+        }
+        countBound(view, convertView);
+        if (view != null) {
+            // remembering the state the item was bound with, see WheelRecycler and AbstractWheelView snapshots
+            view.setTag(R.id.wheel_item_selected_state, index == mCurrentItemIdx ? Boolean.TRUE : Boolean.FALSE);
+            view.setTag(R.id.wheel_item_view_type, viewType);
+        }
+        return view;
+    }
+
+    private void countRecycled(View convertView) {
+        if (mMetrics != null) {
+            if (convertView != null) {
+                mMetrics.recyclerHits++;
+            } else {
+                mMetrics.recyclerMisses++;
+            }
+        }
+    }
+
+    private void countBound(View view, View convertView) {
+        if (mMetrics != null) {
+            mMetrics.binds++;
+            if (view != null && view != convertView) {
+                mMetrics.inflations++;
             }
         }
-        index %= count;
-        return mViewAdapter.getItem(index, mRecycler.getItem(), mItemsLayout, mCurrentItemIdx);
     }
 
 
@@ -680,7 +1239,7 @@ public abstract class AbstractWheel extends View {
                     }
                     int items = distance / getItemDimension();
                     if (items != 0 && isValidItemIndex(mCurrentItemIdx + items)) {
-                        notifyClickListenersAboutClick(mCurrentItemIdx + items);
+                        notifyClickListenersAboutClick(normalizeIndex((long) mCurrentItemIdx + items));
                     }
                 }
                 break;
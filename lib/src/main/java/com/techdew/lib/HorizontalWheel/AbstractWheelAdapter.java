@@ -28,51 +28,104 @@ import android.database.DataSetObserver;
 import android.view.View;
 import android.view.ViewGroup;
 
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Abstract Wheel adapter.
  */
 public abstract class AbstractWheelAdapter implements WheelViewAdapter {
     // Observers
-    private List<DataSetObserver> datasetObservers;
+    private final WheelListeners<DataSetObserver> datasetObservers =
+            new WheelListeners<DataSetObserver>(new DataSetObserver[0]);
     
     @Override
     public View getEmptyItem(View convertView, ViewGroup parent) {
         return null;
     }
 
+    @Override
+    public int getItemViewType(int index) {
+        return 0;
+    }
+
+    @Override
+    public int getViewTypeCount() {
+        return 1;
+    }
+
     @Override
     public void registerDataSetObserver(DataSetObserver observer) {
-        if (datasetObservers == null) {
-            datasetObservers = new LinkedList<DataSetObserver>();
-        }
         datasetObservers.add(observer);
     }
 
     @Override
     public void unregisterDataSetObserver(DataSetObserver observer) {
-        if (datasetObservers != null) {
-            datasetObservers.remove(observer);
-        }
+        datasetObservers.remove(observer);
     }
     
 
     protected void notifyDataChangedEvent() {
-        if (datasetObservers != null) {
-            for (DataSetObserver observer : datasetObservers) {
+        for (DataSetObserver observer : datasetObservers.get()) {
+            observer.onChanged();
+        }
+    }
+    
+
+    /**
+     * Notifies observers that the data of a single item has changed
+     * @param index the item index
+     */
+    protected void notifyItemChanged(int index) {
+        notifyItemRangeChanged(index, 1);
+    }
+
+    /**
+     * Notifies observers that the data of items has changed, item positions are kept
+     * @param start the index of the first changed item
+     * @param count the number of changed items
+     */
+    protected void notifyItemRangeChanged(int start, int count) {
+        for (DataSetObserver observer : datasetObservers.get()) {
+            if (observer instanceof WheelDataSetObserver) {
+                ((WheelDataSetObserver) observer).onItemRangeChanged(start, count);
+            } else {
                 observer.onChanged();
             }
         }
     }
-    
 
-    protected void notifyDataInvalidatedEvent() {
-        if (datasetObservers != null) {
-            for (DataSetObserver observer : datasetObservers) {
-                observer.onInvalidated();
+    /**
+     * Notifies observers that items have been inserted
+     * @param start the index of the first inserted item
+     * @param count the number of inserted items
+     */
+    protected void notifyItemRangeInserted(int start, int count) {
+        for (DataSetObserver observer : datasetObservers.get()) {
+            if (observer instanceof WheelDataSetObserver) {
+                ((WheelDataSetObserver) observer).onItemRangeInserted(start, count);
+            } else {
+                observer.onChanged();
             }
         }
     }
+
+    /**
+     * Notifies observers that items have been removed
+     * @param start the index of the first removed item, as it was before removal
+     * @param count the number of removed items
+     */
+    protected void notifyItemRangeRemoved(int start, int count) {
+        for (DataSetObserver observer : datasetObservers.get()) {
+            if (observer instanceof WheelDataSetObserver) {
+                ((WheelDataSetObserver) observer).onItemRangeRemoved(start, count);
+            } else {
+                observer.onChanged();
+            }
+        }
+    }
+
+    protected void notifyDataInvalidatedEvent() {
+        for (DataSetObserver observer : datasetObservers.get()) {
+            observer.onInvalidated();
+        }
+    }
 }
@@ -25,6 +25,8 @@ package com.techdew.lib.HorizontalWheel;
 
 import android.content.Context;
 import android.graphics.Typeface;
+import android.text.TextPaint;
+import android.util.TypedValue;
 import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.View;
@@ -183,11 +185,7 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
             }
             TextView textView = getTextView(convertView, itemTextResourceId);
             if (textView != null) {
-                CharSequence text = getItemText(index);
-                if (text == null) {
-                    text = "";
-                }
-                textView.setText(text);
+                bindItemText(textView, index);
                 configureTextView(textView, index == currentItemIdx);
             }
             return convertView;
@@ -195,6 +193,19 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
         return null;
     }
 
+    /**
+     * Sets the text of specified item to the text view
+     * @param textView the text view of the item
+     * @param index the item index
+     */
+    protected void bindItemText(TextView textView, int index) {
+        CharSequence text = getItemText(index);
+        if (text == null) {
+            text = "";
+        }
+        textView.setText(text);
+    }
+
     @Override
     public View getEmptyItem(View convertView, ViewGroup parent) {
         if (convertView == null) {
@@ -234,6 +245,23 @@ public abstract class AbstractWheelTextAdapter extends AbstractWheelAdapter {
         }
     }
 
+    /**
+     * Configures paint for items drawn without views, see {@link AbstractWheelView#setDirectTextDrawing}.
+     * Should match {@link #onConfigureTextView} for the default text view.
+     * @param paint the paint to be configured
+     * @param isSelectedItem whether the paint is used for the current item
+     */
+    protected void configureTextPaint(TextPaint paint, boolean isSelectedItem) {
+        paint.setColor(textColor);
+        paint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, textSize,
+                context.getResources().getDisplayMetrics()));
+        if (textTypeface != null) {
+            paint.setTypeface(textTypeface);
+        } else {
+            paint.setTypeface(Typeface.create(Typeface.SANS_SERIF, getDefaultTextStyle()));
+        }
+    }
+
     protected int getDefaultTextStyle() {return Typeface.BOLD;}
 
     /**
@@ -31,8 +31,10 @@ import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffXfermode;
+import android.graphics.Shader;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
+import android.view.View;
 
 import com.nineoldandroids.animation.Animator;
 import com.nineoldandroids.animation.ObjectAnimator;
@@ -69,6 +71,23 @@ public abstract class AbstractWheelView extends AbstractWheel {
 
     protected static final int DEF_SELECTION_DIVIDER_SIZE = 2;
 
+    /**
+     * Items are drawn into an intermediate bitmap of the view size, dimmed there
+     * and blitted together with a separators bitmap.
+     */
+    public static final int RENDER_MODE_BITMAP = 0;
+
+    /**
+     * Items are dimmed in a transient layer bounded by the view and separators are
+     * drawn straight onto the target canvas. No bitmaps are kept by the view.
+     */
+    public static final int RENDER_MODE_COMPOSITED = 1;
+
+    protected static final int DEF_RENDER_MODE = RENDER_MODE_BITMAP;
+
+    /** Number of steps the selector fade goes through, one pre-built gradient per step */
+    protected static final int SELECTOR_SHADER_LEVELS = 32;
+
     //----------------------------------
     //  Class properties
     //----------------------------------
@@ -90,9 +109,33 @@ public abstract class AbstractWheelView extends AbstractWheel {
     /** Left and right padding value */
     protected int mItemsPadding;
 
+    /** Size of items along the spinnerwheel, 0 if items are measured to fit their content */
+    protected int mItemSize;
+
+    // Measured dimension cache, valid while the measure specs and the generation are unchanged
+    private int mMeasureGeneration;
+    private int mCachedMeasureGeneration = -1;
+    private int mCachedWidthMeasureSpec;
+    private int mCachedHeightMeasureSpec;
+
     /** Divider for showing item to be selected while scrolling */
     protected Drawable mSelectionDivider;
 
+    /** How items, dimming and separators are composited, see {@link #RENDER_MODE_BITMAP} */
+    protected int mRenderMode;
+
+    /** Whether text items are drawn by the spinnerwheel itself instead of item views */
+    protected boolean mDirectTextDrawing;
+
+    /** Draws text items when {@link #mDirectTextDrawing} is set */
+    protected WheelTextRenderer mTextRenderer;
+
+    // Size of the first text item along the scrolling axis, 0 until it is measured
+    private int mTextItemDimension;
+
+    /** Keeps items rendered as bitmaps for scroll frames, null if disabled */
+    protected WheelItemSnapshotCache mItemSnapshotCache;
+
     /** Passive coeff */
     protected float mPassiveCoeff = 0f;
 
@@ -135,6 +178,33 @@ public abstract class AbstractWheelView extends AbstractWheel {
     protected Bitmap mSpinBitmap;
     protected Bitmap mSeparatorsBitmap;
 
+    /**
+     * Canvases wrapping the intermediate bitmaps. They are created once and
+     * re-targeted when the bitmaps are recreated, so drawing a frame does not allocate.
+     */
+    protected final Canvas mSpinCanvas = new Canvas();
+    protected final Canvas mSeparatorsCanvas = new Canvas();
+
+    /** Canvas for rendering item snapshots, re-targeted for every snapshot */
+    private final Canvas mSnapshotCanvas = new Canvas();
+
+    /**
+     * Dimming gradients for every fade step. They are built once per size, so the
+     * fade animation only picks one of them.
+     */
+    private final Shader[] mSelectorShaders = new Shader[SELECTOR_SHADER_LEVELS + 1];
+    private int mSelectorShaderLevel = -1;
+
+    // geometry the selector gradients were built for
+    private int mSelectorShadersWidth;
+    private int mSelectorShadersHeight;
+    private int mSelectorShadersItemDimension;
+    private int mSelectorShadersVisibleItems;
+
+    // separators are rasterized once and then only blitted with the separators paint alpha
+    private boolean mSeparatorsDirty = true;
+    private int mSeparatorsItemDimension;
+
 
     //--------------------------------------------------------------------------
     //
@@ -162,8 +232,14 @@ public abstract class AbstractWheelView extends AbstractWheel {
         mSelectionDividerDimmedAlpha = a.getInt(R.styleable.AbstractWheelView_selectionDividerDimmedAlpha, DEF_SELECTION_DIVIDER_DIMMED_ALPHA);
         mItemOffsetPercent = a.getInt(R.styleable.AbstractWheelView_itemOffsetPercent, DEF_ITEM_OFFSET_PERCENT);
         mItemsPadding = a.getDimensionPixelSize(R.styleable.AbstractWheelView_itemsPadding, DEF_ITEM_PADDING);
-        mSelectionDivider = a.getDrawable(R.styleable.AbstractWheelView_selectionDivider);
+        mSelectionDivider = mutateDivider(a.getDrawable(R.styleable.AbstractWheelView_selectionDivider));
+        mRenderMode = a.getInt(R.styleable.AbstractWheelView_renderMode, DEF_RENDER_MODE);
+        mDirectTextDrawing = a.getBoolean(R.styleable.AbstractWheelView_directTextDrawing, false);
+        mItemSize = a.getDimensionPixelSize(R.styleable.AbstractWheelView_itemSize, 0);
+        int snapshotCacheSize = a.getInt(R.styleable.AbstractWheelView_itemSnapshotCacheSize, 0);
         a.recycle();
+
+        setItemSnapshotCacheSize(snapshotCacheSize);
     }
 
     @Override
@@ -179,13 +255,20 @@ public abstract class AbstractWheelView extends AbstractWheel {
 
         // creating paints
         mSeparatorsPaint = new Paint();
-        mSeparatorsPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.DST_IN));
         mSeparatorsPaint.setAlpha(mSelectionDividerDimmedAlpha);
 
         mSelectorWheelPaint = new Paint();
         mSelectorWheelPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.DST_IN));
+
+        mTextRenderer = createTextRenderer();
     }
 
+    /**
+     * Creates the renderer drawing text items without item views
+     * @return the text renderer for the spinnerwheel orientation
+     */
+    abstract protected WheelTextRenderer createTextRenderer();
+
     private void buildDimSelectorWheelAnimator() {
         mDimSelectorWheelAnimator = ObjectAnimator.ofFloat(this, PROPERTY_SELECTOR_PAINT_COEFF, mActiveCoeff, mPassiveCoeff);
     }
@@ -198,11 +281,208 @@ public abstract class AbstractWheelView extends AbstractWheel {
      */
     @Override
     protected void recreateAssets(int width, int height) {
-        mSpinBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
-        mSeparatorsBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        if (mRenderMode == RENDER_MODE_COMPOSITED) {
+            mSpinBitmap = null;
+            mSeparatorsBitmap = null;
+        } else {
+            mSpinBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mSeparatorsBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        }
+        mSpinCanvas.setBitmap(mSpinBitmap);
+        mSeparatorsCanvas.setBitmap(mSeparatorsBitmap);
+        mSeparatorsDirty = true;
         setSelectorPaintCoeff(mPassiveCoeff);
     }
 
+    /**
+     * Marks the separators for re-rendering, to be called when the divider
+     * or its geometry changes.
+     */
+    protected void invalidateSeparators() {
+        mSeparatorsDirty = true;
+        invalidate();
+    }
+
+    /**
+     * Sets the way items are composited with the dimming gradient and separators.
+     *
+     * @param renderMode {@link #RENDER_MODE_BITMAP} or {@link #RENDER_MODE_COMPOSITED}
+     */
+    public void setRenderMode(int renderMode) {
+        if (mRenderMode == renderMode) {
+            return;
+        }
+        mRenderMode = renderMode;
+        if (mSelectionDivider != null) {
+            mSelectionDivider.setAlpha(255);
+        }
+        if (getMeasuredWidth() > 0 && getMeasuredHeight() > 0) {
+            recreateAssets(getMeasuredWidth(), getMeasuredHeight());
+        }
+        invalidate();
+    }
+
+    public int getRenderMode() {
+        return mRenderMode;
+    }
+
+    /**
+     * Sets whether text items are drawn by the spinnerwheel itself. It takes effect
+     * when the adapter is an {@link AbstractWheelTextAdapter}: the wheel then keeps no
+     * item views, and neither inflates nor measures them. Items are drawn with the text
+     * settings of the adapter, item layout resources are not used.
+     *
+     * @param directTextDrawing true to draw text items directly
+     */
+    public void setDirectTextDrawing(boolean directTextDrawing) {
+        if (mDirectTextDrawing != directTextDrawing) {
+            mDirectTextDrawing = directTextDrawing;
+            invalidateItemsLayout(true);
+            requestLayout();
+        }
+    }
+
+    /**
+     * Checks whether text items are drawn directly with the current adapter
+     * @return true if items are drawn without item views
+     */
+    public boolean isDirectTextDrawing() {
+        return mDirectTextDrawing && mViewAdapter instanceof AbstractWheelTextAdapter;
+    }
+
+    /**
+     * Sets the size of the item snapshot cache. Items are then rendered once into
+     * bitmaps, and scroll frames only blit them. Snapshots are dropped when the adapter
+     * notifies about data changes, so the cache suits items whose look depends only
+     * on the item index and whether the item is current.
+     *
+     * @param maxBytes the max size of all snapshots in bytes, 0 to disable the cache
+     */
+    public void setItemSnapshotCacheSize(int maxBytes) {
+        if (maxBytes <= 0) {
+            mItemSnapshotCache = null;
+        } else if (mItemSnapshotCache == null) {
+            mItemSnapshotCache = new WheelItemSnapshotCache(maxBytes);
+        } else {
+            mItemSnapshotCache.setMaxBytes(maxBytes);
+        }
+        invalidate();
+    }
+
+    public int getItemSnapshotCacheSize() {
+        return mItemSnapshotCache != null ? mItemSnapshotCache.getMaxBytes() : 0;
+    }
+
+    /**
+     * Sets the size of all items along the spinnerwheel. Item views are then measured
+     * at this size instead of to fit their content, and the items layout itself is
+     * never measured, so scrolling measures only new or rebound item views.
+     *
+     * @param itemSize the item size in pixels, 0 to measure items to fit their content
+     */
+    public void setItemSize(int itemSize) {
+        if (mItemSize != itemSize) {
+            mItemSize = itemSize;
+            if (mItemsLayout != null) {
+                mItemsLayout.setItemSize(itemSize);
+            }
+            invalidateItemsLayout(false);
+            requestLayout();
+        }
+    }
+
+    public int getItemSize() {
+        return mItemSize;
+    }
+
+    @Override
+    public void setVisibleItems(int count) {
+        super.setVisibleItems(count);
+        mMeasureGeneration++;
+    }
+
+    @Override
+    public void invalidateItemsLayout(boolean clearCaches) {
+        mMeasureGeneration++;
+        super.invalidateItemsLayout(clearCaches);
+    }
+
+    @Override
+    public void setViewAdapter(WheelViewAdapter viewAdapter) {
+        mTextItemDimension = 0;
+        mTextRenderer.setAdapter(viewAdapter instanceof AbstractWheelTextAdapter
+                ? (AbstractWheelTextAdapter) viewAdapter : null);
+        if (mItemSnapshotCache != null) {
+            mItemSnapshotCache.clear();
+        }
+        super.setViewAdapter(viewAdapter);
+    }
+
+    @Override
+    protected void onItemsDataChanged() {
+        super.onItemsDataChanged();
+        mMeasureGeneration++;
+        mTextItemDimension = 0;
+        mTextRenderer.invalidate();
+        if (mItemSnapshotCache != null) {
+            mItemSnapshotCache.clear();
+        }
+    }
+
+    @Override
+    protected void onItemsRangeChanged(int start, int count) {
+        super.onItemsRangeChanged(start, count);
+        mMeasureGeneration++;
+        if (start == 0) {
+            mTextItemDimension = 0;
+        }
+        for (int i = start; i < start + count; i++) {
+            mTextRenderer.invalidateItem(i);
+            if (mItemSnapshotCache != null) {
+                mItemSnapshotCache.remove(i);
+            }
+        }
+        invalidate();
+    }
+
+    @Override
+    protected void onItemsShifted(int start, int count, int delta) {
+        super.onItemsShifted(start, count, delta);
+        mMeasureGeneration++;
+        if (start == 0) {
+            mTextItemDimension = 0;
+        }
+        mTextRenderer.invalidateItemsFrom(start);
+        if (mItemSnapshotCache != null) {
+            mItemSnapshotCache.shiftItems(start, count, delta);
+        }
+    }
+
+    /**
+     * Gets item size along the scrolling axis when text items are drawn directly.
+     * Items share the wheel evenly. Text size is used before the wheel is laid out,
+     * and when all items are visible, since the visible items count then follows it.
+     * The text size is the one of the first item, measured once, so the dimension
+     * does not change with the current item while scrolling.
+     *
+     * @return the item dimension
+     */
+    protected int getTextItemDimension() {
+        int baseDimension = getBaseDimension();
+        // with all items visible, the visible items count is derived from the item dimension
+        if (baseDimension > 0 && !mIsAllVisible) {
+            return baseDimension / mVisibleItems;
+        }
+        if (mTextItemDimension == 0) {
+            int size = mTextRenderer.getMainSize(0);
+            if (size == 0) {
+                return Math.max(1, 2 * mItemsPadding);
+            }
+            mTextItemDimension = size + 2 * mItemsPadding;
+        }
+        return mTextItemDimension;
+    }
+
     /**
      * Sets the <code>alpha</code> of the {@link Paint} for drawing separators
      * spinnerwheel.
@@ -220,10 +500,65 @@ public abstract class AbstractWheelView extends AbstractWheel {
      *
      * @param coeff Coefficient from 0 (selector is passive) to 1 (selector is active)
      */
-    abstract protected void setSelectorPaintCoeff(float coeff);
+    @SuppressWarnings("unused")  // Called via reflection
+    public void setSelectorPaintCoeff(float coeff) {
+        int level = Math.round(Math.max(0f, Math.min(1f, coeff)) * SELECTOR_SHADER_LEVELS);
+        if (level != mSelectorShaderLevel) {
+            mSelectorShaderLevel = level;
+            updateSelectorShader();
+            invalidate();
+        }
+    }
+
+    /**
+     * Sets the selector gradient for the current fade step, rebuilding the
+     * gradients first if the geometry has changed since they were built.
+     */
+    private void updateSelectorShader() {
+        int w = getMeasuredWidth();
+        int h = getMeasuredHeight();
+        int itemDimension = getItemDimension();
+        if (w != mSelectorShadersWidth || h != mSelectorShadersHeight
+                || itemDimension != mSelectorShadersItemDimension
+                || mVisibleItems != mSelectorShadersVisibleItems) {
+            mSelectorShadersWidth = w;
+            mSelectorShadersHeight = h;
+            mSelectorShadersItemDimension = itemDimension;
+            mSelectorShadersVisibleItems = mVisibleItems;
+            boolean hasSize = w > 0 && h > 0 && itemDimension > 0;
+            for (int i = 0; i <= SELECTOR_SHADER_LEVELS; i++) {
+                mSelectorShaders[i] = hasSize
+                        ? createSelectorShader(w, h, itemDimension, i / (float) SELECTOR_SHADER_LEVELS)
+                        : null;
+            }
+        }
+        if (mSelectorShaderLevel >= 0) {
+            mSelectorWheelPaint.setShader(mSelectorShaders[mSelectorShaderLevel]);
+        }
+    }
+
+    /**
+     * Creates the dimming gradient for the selector spinnerwheel.
+     *
+     * @param width the spinnerwheel width
+     * @param height the spinnerwheel height
+     * @param itemDimension the item size along the scrolling axis
+     * @param coeff Coefficient from 0 (selector is passive) to 1 (selector is active)
+     * @return the gradient, or null if items should not be dimmed
+     */
+    abstract protected Shader createSelectorShader(int width, int height, int itemDimension, float coeff);
 
     public void setSelectionDivider(Drawable selectionDivider) {
-        this.mSelectionDivider = selectionDivider;
+        this.mSelectionDivider = mutateDivider(selectionDivider);
+        invalidateSeparators();
+    }
+
+    /**
+     * The divider alpha is changed in composited mode, so it must not share its state
+     * with other drawables loaded from the same resource.
+     */
+    private static Drawable mutateDivider(Drawable divider) {
+        return divider != null ? divider.mutate() : null;
     }
 
     public void setActiveCoeff(float activeCoeff) {
@@ -259,7 +594,7 @@ public abstract class AbstractWheelView extends AbstractWheel {
 
     @Override
     protected void onScrollFinished() {
-        invalidateItemsLayout(false);
+        invalidate(); // items bound with a stale selected state are rebound on the next rebuild
         fadeSelectorWheel(500);
         lightSeparators(500);
     }
@@ -305,6 +640,45 @@ public abstract class AbstractWheelView extends AbstractWheel {
      */
     abstract protected void measureLayout();
 
+    /**
+     * Measures item views at the fixed item size, without measuring the items layout.
+     * Only views bound since they were measured are measured, unless the size across
+     * the orientation has changed.
+     *
+     * @return the number of item views measured
+     */
+    abstract protected int measureItemViews();
+
+    /**
+     * Sets the measured dimension of the last measure pass if it was made with the same
+     * specs, and neither items nor the item settings have changed since
+     *
+     * @param widthMeasureSpec the width measure spec
+     * @param heightMeasureSpec the height measure spec
+     * @return true if the measured dimension is set
+     */
+    protected boolean setCachedMeasuredDimension(int widthMeasureSpec, int heightMeasureSpec) {
+        if (mCachedMeasureGeneration != mMeasureGeneration
+                || mCachedWidthMeasureSpec != widthMeasureSpec
+                || mCachedHeightMeasureSpec != heightMeasureSpec) {
+            return false;
+        }
+        setMeasuredDimension(getMeasuredWidth(), getMeasuredHeight());
+        return true;
+    }
+
+    /**
+     * Remembers the specs the measured dimension has been computed for
+     *
+     * @param widthMeasureSpec the width measure spec
+     * @param heightMeasureSpec the height measure spec
+     */
+    protected void cacheMeasuredDimension(int widthMeasureSpec, int heightMeasureSpec) {
+        mCachedMeasureGeneration = mMeasureGeneration;
+        mCachedWidthMeasureSpec = widthMeasureSpec;
+        mCachedHeightMeasureSpec = heightMeasureSpec;
+    }
+
 
     //--------------------------------------------------------------------------
     //
@@ -315,13 +689,46 @@ public abstract class AbstractWheelView extends AbstractWheel {
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
-
-        if (mViewAdapter != null && mViewAdapter.getItemsCount() > 0) {
-            if (rebuildItems()) {
-                measureLayout();
+        long start = mMetrics != null ? System.nanoTime() : 0;
+
+        updateItemsCount();
+        if (mViewAdapter != null && mItemsCount > 0) {
+            if (!isDirectTextDrawing()) {
+                boolean rebuilt = rebuildItems();
+                if (mItemSize > 0) {
+                    // a scroll binding no item measures nothing
+                    if (measureItemViews() > 0 && mMetrics != null) {
+                        mMetrics.measureLayouts++;
+                    }
+                } else if (rebuilt) {
+                    WheelTrace.beginSection(WheelTrace.MEASURE_LAYOUT);
+                    try {
+                        measureLayout();
+                    } finally {
+                        WheelTrace.endSection();
+                    }
+                    if (mMetrics != null) {
+                        mMetrics.measureLayouts++;
+                    }
+                }
+                WheelTrace.beginSection(WheelTrace.DO_ITEMS_LAYOUT);
+                try {
+                    doItemsLayout();
+                } finally {
+                    WheelTrace.endSection();
+                }
+            }
+            WheelTrace.beginSection(WheelTrace.DRAW_ITEMS);
+            try {
+                drawItems(canvas);
+            } finally {
+                WheelTrace.endSection();
             }
-            doItemsLayout();
-            drawItems(canvas);
+            notifyProgressListeners();
+        }
+
+        if (mMetrics != null) {
+            mMetrics.recordFrame(start, System.nanoTime(), mIsScrollingPerformed);
         }
     }
 
@@ -330,5 +737,118 @@ public abstract class AbstractWheelView extends AbstractWheel {
      *
      * @param canvas the canvas for drawing
      */
-    abstract protected void drawItems(Canvas canvas);
+    protected void drawItems(Canvas canvas) {
+        int w = getMeasuredWidth();
+        int h = getMeasuredHeight();
+        updateSelectorShader();
+
+        if (mRenderMode == RENDER_MODE_COMPOSITED) {
+            // dimming items in a layer bounded by the view, then drawing separators on top
+            int saveCount = canvas.saveLayer(0, 0, w, h, null, Canvas.ALL_SAVE_FLAG);
+            drawItemsContent(canvas);
+            canvas.drawRect(0, 0, w, h, mSelectorWheelPaint);
+            canvas.restoreToCount(saveCount);
+
+            if (mSelectionDivider != null) {
+                mSelectionDivider.setAlpha(mSeparatorsPaint.getAlpha());
+                drawSelectionDividers(canvas);
+            }
+        } else {
+            // resetting intermediate bitmaps, canvases are reused between frames
+            mSpinBitmap.eraseColor(0);
+            drawItemsContent(mSpinCanvas);
+            mSpinCanvas.drawRect(0, 0, w, h, mSelectorWheelPaint);
+            canvas.drawBitmap(mSpinBitmap, 0, 0, null);
+
+            if (mSelectionDivider != null) {
+                // dividers do not move, they are re-rendered only when the geometry changes
+                int itemDimension = getItemDimension();
+                if (mSeparatorsDirty || mSeparatorsItemDimension != itemDimension) {
+                    mSeparatorsBitmap.eraseColor(0);
+                    drawSelectionDividers(mSeparatorsCanvas);
+                    mSeparatorsItemDimension = itemDimension;
+                    mSeparatorsDirty = false;
+                }
+                canvas.drawBitmap(mSeparatorsBitmap, 0, 0, mSeparatorsPaint);
+            }
+        }
+    }
+
+    /**
+     * Draws items at the current scrolling position, either as text or through the items layout
+     *
+     * @param canvas the canvas for drawing
+     */
+    private void drawItemsContent(Canvas canvas) {
+        if (isDirectTextDrawing()) {
+            mTextRenderer.draw(canvas, this, getItemsRange(), getItemDimension(), mItemsPadding);
+        } else {
+            drawItemsLayout(canvas);
+        }
+    }
+
+    /**
+     * Draws the items layout at the current scrolling position
+     *
+     * @param canvas the canvas for drawing
+     */
+    abstract protected void drawItemsLayout(Canvas canvas);
+
+    /**
+     * Draws the item views of the items layout, blitting their snapshots
+     * when the snapshot cache is enabled
+     *
+     * @param canvas the canvas translated to the items layout
+     */
+    protected void drawItemViews(Canvas canvas) {
+        if (mItemSnapshotCache != null) {
+            mItemSnapshotCache.nextFrame();
+        }
+        for (int i = 0; i < mItemsLayout.getItemCount(); i++) {
+            View item = mItemsLayout.getItemAt(i);
+            Boolean selected = (Boolean) item.getTag(R.id.wheel_item_selected_state);
+            Bitmap snapshot = null;
+            if (mItemSnapshotCache != null && selected != null) { // empty items are not cached
+                snapshot = getItemSnapshot(item, normalizeIndex(mFirstItemIdx + i), selected);
+            }
+
+            if (snapshot != null) {
+                canvas.drawBitmap(snapshot, item.getLeft(), item.getTop(), null);
+            } else {
+                canvas.save();
+                canvas.translate(item.getLeft(), item.getTop());
+                item.draw(canvas);
+                canvas.restore();
+            }
+        }
+    }
+
+    /**
+     * Gets the cached snapshot of specified item, rendering the item view if necessary
+     * @return the snapshot, or null if the item does not fit the cache
+     */
+    private Bitmap getItemSnapshot(View item, int index, boolean selected) {
+        int width = item.getWidth();
+        int height = item.getHeight();
+        Bitmap snapshot = mItemSnapshotCache.get(index, selected);
+        if (snapshot != null && snapshot.getWidth() == width && snapshot.getHeight() == height) {
+            return snapshot;
+        }
+
+        snapshot = mItemSnapshotCache.obtain(width, height);
+        if (snapshot != null) {
+            mSnapshotCanvas.setBitmap(snapshot);
+            item.draw(mSnapshotCanvas);
+            mSnapshotCanvas.setBitmap(null);
+            mItemSnapshotCache.put(index, selected, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Draws the selection dividers around the current item
+     *
+     * @param canvas the canvas for drawing
+     */
+    abstract protected void drawSelectionDividers(Canvas canvas);
 }
@@ -0,0 +1,113 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Change listener delivering changes to another listener through an executor.
+ * <p>At most one delivery is queued at a time. Changes made while the listener is
+ * busy are conflated, so the listener gets the oldest value it has not seen yet and
+ * the latest value, and the spinnerwheel never waits for it.
+ * <p>Once removed from the spinnerwheel, queued deliveries are dropped. Only a
+ * delivery already running on the executor may still complete.
+ */
+final class ExecutorChangedListener implements OnWheelChangedListener, Runnable {
+
+    final OnWheelChangedListener listener;
+    private final Executor executor;
+
+    // Change waiting to be delivered, guarded by this
+    private AbstractWheel wheel;
+    private int oldValue;
+    private int newValue;
+    private boolean changePending;
+    private boolean scheduled;
+    private boolean removed;
+
+    ExecutorChangedListener(OnWheelChangedListener listener, Executor executor) {
+        this.listener = listener;
+        this.executor = executor;
+    }
+
+    /**
+     * Drops the pending change and stops further deliveries.
+     * To be called when the listener is removed from the spinnerwheel.
+     */
+    synchronized void remove() {
+        removed = true;
+        changePending = false;
+        wheel = null;
+    }
+
+    @Override
+    public void onChanged(AbstractWheel wheel, int oldValue, int newValue) {
+        synchronized (this) {
+            if (removed) {
+                return;
+            }
+            if (!changePending) {
+                changePending = true;
+                this.oldValue = oldValue;
+            }
+            this.wheel = wheel;
+            this.newValue = newValue;
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+        try {
+            executor.execute(this);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                scheduled = false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            AbstractWheel wheel;
+            int oldValue;
+            int newValue;
+            synchronized (this) {
+                if (!changePending || removed) {
+                    scheduled = false;
+                    return;
+                }
+                changePending = false;
+                wheel = this.wheel;
+                oldValue = this.oldValue;
+                newValue = this.newValue;
+            }
+            if (oldValue != newValue) {
+                listener.onChanged(wheel, oldValue, newValue);
+            }
+        }
+    }
+}
@@ -40,12 +40,12 @@ public class HorizontalScroller extends WheelScroller {
 
     @Override
     protected int getCurrentScrollerPosition() {
-        return scroller.getCurrX();
+        return scroller.getCurrPosition();
     }
 
     @Override
     protected int getFinalScrollerPosition() {
-        return scroller.getFinalX();
+        return scroller.getFinalPosition();
     }
 
     @Override
@@ -56,13 +56,11 @@ public class HorizontalScroller extends WheelScroller {
 
     @Override
     protected void scrollerStartScroll(int distance, int time) {
-        scroller.startScroll(0, 0, distance, 0, time);
+        scroller.startScroll(now(), 0, distance, time);
     }
 
     @Override
     protected void scrollerFling(int position, int velocityX, int velocityY) {
-        final int maxPosition = 0x7FFFFFFF;
-        final int minPosition = -maxPosition;
-        scroller.fling(position, 0, -velocityX, 0, minPosition, maxPosition, 0, 0);
+        scroller.fling(now(), position, -velocityX);
     }
 }
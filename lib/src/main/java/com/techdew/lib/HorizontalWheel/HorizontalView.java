@@ -30,11 +30,8 @@ import android.graphics.Canvas;
 import android.graphics.LinearGradient;
 import android.graphics.Shader;
 import android.util.AttributeSet;
-import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
-import android.view.ViewGroup.LayoutParams;
-import android.widget.LinearLayout;
 
 import com.techdew.lib.R;
 
@@ -113,17 +110,16 @@ public class HorizontalView extends AbstractWheelView {
 
     public void setSelectionDividerWidth(int selectionDividerWidth) {
         this.mSelectionDividerWidth = selectionDividerWidth;
+        invalidateSeparators();
     }
 
     @Override
-    public void setSelectorPaintCoeff(float coeff) {
+    protected Shader createSelectorShader(int width, int height, int itemDimension, float coeff) {
         if (mItemsDimmedAlpha >= 100)
-            return;
-
-        LinearGradient shader;
+            return null;
 
-        int w = getMeasuredWidth();
-        int iw = getItemDimension();
+        int w = width;
+        int iw = itemDimension;
         float p1 = (1 - iw/(float) w)/2;
         float p2 = (1 + iw/(float) w)/2;
         float z = mItemsDimmedAlpha * (1 - coeff);
@@ -134,7 +130,7 @@ public class HorizontalView extends AbstractWheelView {
             int c2 = Math.round( z ) << 24;
             int[] colors =      {c2, c1, 0xff000000, 0xff000000, c1, c2};
             float[] positions = { 0, p1,     p1,         p2,     p2,  1};
-            shader = new LinearGradient(0, 0, w, 0, colors, positions, Shader.TileMode.CLAMP);
+            return new LinearGradient(0, 0, w, 0, colors, positions, Shader.TileMode.CLAMP);
         } else {
             float p3 = (1 - iw*3/(float) w)/2;
             float p4 = (1 + iw*3/(float) w)/2;
@@ -149,10 +145,8 @@ public class HorizontalView extends AbstractWheelView {
 
             int[] colors = { c2, c2, c2, c2, 0xff000000, 0xff000000, c2, c2, c2, c2 };
             float[] positions = { 0, p3, p3, p1, p1, p2, p2, p4, p4, 1 };
-            shader = new LinearGradient(0, 0, w, 0, colors, positions, Shader.TileMode.CLAMP);
+            return new LinearGradient(0, 0, w, 0, colors, positions, Shader.TileMode.CLAMP);
         }
-        mSelectorWheelPaint.setShader(shader);
-        invalidate();
     }
 
 
@@ -167,6 +161,11 @@ public class HorizontalView extends AbstractWheelView {
         return new HorizontalScroller(getContext(), scrollingListener);
     }
 
+    @Override
+    protected WheelTextRenderer createTextRenderer() {
+        return new WheelTextRenderer(WheelTextRenderer.HORIZONTAL);
+    }
+
     @Override
     protected float getMotionEventPosition(MotionEvent event) {
         return event.getX();
@@ -190,40 +189,28 @@ public class HorizontalView extends AbstractWheelView {
      */
     @Override
     protected int getItemDimension() {
+        if (isDirectTextDrawing()) {
+            return getTextItemDimension();
+        }
+
+        if (mItemSize > 0) {
+            return mItemSize;
+        }
+
         if (itemWidth != 0) {
             return itemWidth;
         }
 
-        if (mItemsLayout != null && mItemsLayout.getChildAt(0) != null) {
-            itemWidth = mItemsLayout.getChildAt(0).getMeasuredWidth();
-            return itemWidth;
+        if (mItemsLayout != null && mItemsLayout.getItemCount() > 0) {
+            itemWidth = mItemsLayout.getItemAt(0).getMeasuredWidth();
+            if (itemWidth != 0) {
+                return itemWidth;
+            }
         }
 
         return getBaseDimension() / mVisibleItems;
     }
 
-    //--------------------------------------------------------------------------
-    //
-    //  Debugging stuff
-    //
-    //--------------------------------------------------------------------------
-
-
-    @Override
-    protected void onScrollTouchedUp() {
-        super.onScrollTouchedUp();
-        int cnt = mItemsLayout.getChildCount();
-        View itm;
-        Log.e(LOG_TAG, " ----- layout: " + mItemsLayout.getMeasuredWidth() + mItemsLayout.getMeasuredHeight());
-        Log.e(LOG_TAG, " -------- dumping " + cnt + " items");
-        for (int i = 0; i < cnt; i++) {
-            itm = mItemsLayout.getChildAt(i);
-            Log.e(LOG_TAG, " item #" + i + ": " + itm.getWidth() + "x" + itm.getHeight());
-            itm.forceLayout(); // forcing layout without re-rendering parent
-        }
-        Log.e(LOG_TAG, " ---------- dumping finished ");
-    }
-
 
     //--------------------------------------------------------------------------
     //
@@ -237,27 +224,30 @@ public class HorizontalView extends AbstractWheelView {
     @Override
     protected void createItemsLayout() {
         if (mItemsLayout == null) {
-            mItemsLayout = new LinearLayout(getContext());
-            mItemsLayout.setOrientation(LinearLayout.HORIZONTAL);
+            mItemsLayout = new WheelItemsLayout(getContext(), WheelItemsLayout.HORIZONTAL);
+            mItemsLayout.setItemSize(mItemSize);
         }
     }
 
     @Override
     protected void doItemsLayout() {
         mItemsLayout.layout(0, 0, getMeasuredWidth(), getMeasuredHeight() - 2 * mItemsPadding);
+        mItemsLayout.layoutItems(getItemDimension());
     }
 
     @Override
     protected void measureLayout() {
-        mItemsLayout.setLayoutParams(new LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.WRAP_CONTENT));
         // XXX: Locating bug
         mItemsLayout.measure(
                 View.MeasureSpec.makeMeasureSpec(getWidth() + getItemDimension(), View.MeasureSpec.UNSPECIFIED),
                 View.MeasureSpec.makeMeasureSpec(getHeight(), View.MeasureSpec.AT_MOST));
     }
 
-    //XXX: Most likely, measurements of mItemsLayout or/and its children are done inconrrectly.
-    // Investigate and fix it
+    @Override
+    protected int measureItemViews() {
+        int height = Math.max(getHeight() - 2 * mItemsPadding, 0);
+        return mItemsLayout.measureItems(View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+    }
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
@@ -266,7 +256,15 @@ public class HorizontalView extends AbstractWheelView {
         int widthSize = View.MeasureSpec.getSize(widthMeasureSpec);
         int heightSize = View.MeasureSpec.getSize(heightMeasureSpec);
 
-        rebuildItems(); // rebuilding before measuring
+        // a wrapped height follows the items shown, only an exact one can be reused
+        if (heightMode == View.MeasureSpec.EXACTLY
+                && setCachedMeasuredDimension(widthMeasureSpec, heightMeasureSpec)) {
+            return;
+        }
+
+        if (!isDirectTextDrawing()) {
+            rebuildItems(); // rebuilding before measuring
+        }
 
         int height = calculateLayoutHeight(heightSize, heightMode);
 
@@ -284,6 +282,7 @@ public class HorizontalView extends AbstractWheelView {
             }
         }
         setMeasuredDimension(width, height);
+        cacheMeasuredDimension(widthMeasureSpec, heightMeasureSpec);
     }
 
 
@@ -294,12 +293,18 @@ public class HorizontalView extends AbstractWheelView {
      * @return the calculated control height
      */
     private int calculateLayoutHeight(int heightSize, int mode) {
-        mItemsLayout.setLayoutParams(new LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.WRAP_CONTENT));
-        mItemsLayout.measure(
-                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
-                View.MeasureSpec.makeMeasureSpec(heightSize, View.MeasureSpec.UNSPECIFIED)
-                );
-        int height = mItemsLayout.getMeasuredHeight();
+        int height;
+        if (mode == View.MeasureSpec.EXACTLY) {
+            height = 0; // content is not needed
+        } else if (isDirectTextDrawing()) {
+            height = mTextRenderer.getCrossSize(mCurrentItemIdx);
+        } else {
+            mItemsLayout.measure(
+                    View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                    View.MeasureSpec.makeMeasureSpec(heightSize, View.MeasureSpec.UNSPECIFIED)
+                    );
+            height = mItemsLayout.getMeasuredHeight();
+        }
 
         if (mode == View.MeasureSpec.EXACTLY) {
             height = heightSize;
@@ -313,17 +318,19 @@ public class HorizontalView extends AbstractWheelView {
                 height = heightSize;
             }
         }
-        // forcing recalculating
-        mItemsLayout.measure(
-                // MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED),
-                View.MeasureSpec.makeMeasureSpec(400, View.MeasureSpec.EXACTLY),
-                View.MeasureSpec.makeMeasureSpec(height - 2 * mItemsPadding, View.MeasureSpec.EXACTLY)
-        );
+        if (!isDirectTextDrawing()) {
+            // forcing recalculating
+            mItemsLayout.measure(
+                    View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED),
+                    View.MeasureSpec.makeMeasureSpec(height - 2 * mItemsPadding, View.MeasureSpec.EXACTLY)
+            );
+        }
 
         return height;
     }
 
 
+
     //--------------------------------------------------------------------------
     //
     //  Drawing items
@@ -331,51 +338,35 @@ public class HorizontalView extends AbstractWheelView {
     //--------------------------------------------------------------------------
 
     @Override
-    protected void drawItems(Canvas canvas) {
+    protected void drawItemsLayout(Canvas canvas) {
+        int iw = getItemDimension();
+        int left = (mCurrentItemPosition - mFirstItemIdx) * iw + (iw - getWidth()) / 2;
         canvas.save();
-        int w = getMeasuredWidth();
+        canvas.translate(- left + mScrollingOffset, mItemsPadding);
+        drawItemViews(canvas);
+        canvas.restore();
+    }
+
+    @Override
+    protected void drawSelectionDividers(Canvas canvas) {
         int h = getMeasuredHeight();
         int iw = getItemDimension();
 
-        // resetting intermediate bitmap and recreating canvases
-        mSpinBitmap.eraseColor(0);
-        Canvas c = new Canvas(mSpinBitmap);
-        Canvas cSpin = new Canvas(mSpinBitmap);
-
-        int left = (mCurrentItemIdx - mFirstItemIdx) * iw + (iw - getWidth()) / 2;
-        c.translate(- left + mScrollingOffset, mItemsPadding);
-        mItemsLayout.draw(c);
-
-        mSeparatorsBitmap.eraseColor(0);
-        Canvas cSeparators = new Canvas(mSeparatorsBitmap);
-
-        if (mSelectionDivider != null) {
-            // draw the top divider
-            int leftOfLeftDivider = (getWidth() - iw - mSelectionDividerWidth) / 2;
-            int rightOfLeftDivider = leftOfLeftDivider + mSelectionDividerWidth;
-            cSeparators.save();
-            // On Gingerbread setBounds() is ignored resulting in an ugly visual bug.
-            cSeparators.clipRect(leftOfLeftDivider, 0, rightOfLeftDivider, h);
-            mSelectionDivider.setBounds(leftOfLeftDivider, 0, rightOfLeftDivider, h);
-            mSelectionDivider.draw(cSeparators);
-            cSeparators.restore();
-
-            cSeparators.save();
-            // draw the bottom divider
-            int leftOfRightDivider =  leftOfLeftDivider + iw;
-            int rightOfRightDivider = rightOfLeftDivider + iw;
-            // On Gingerbread setBounds() is ignored resulting in an ugly visual bug.
-            cSeparators.clipRect(leftOfRightDivider, 0, rightOfRightDivider, h);
-            mSelectionDivider.setBounds(leftOfRightDivider, 0, rightOfRightDivider, h);
-            mSelectionDivider.draw(cSeparators);
-            cSeparators.restore();
-        }
-
-        cSpin.drawRect(0, 0, w, h, mSelectorWheelPaint);
-        cSeparators.drawRect(0, 0, w, h, mSeparatorsPaint);
+        // draw the left divider
+        int leftOfLeftDivider = (getWidth() - iw - mSelectionDividerWidth) / 2;
+        int rightOfLeftDivider = leftOfLeftDivider + mSelectionDividerWidth;
+        canvas.save();
+        // On Gingerbread setBounds() is ignored resulting in an ugly visual bug.
+        canvas.clipRect(leftOfLeftDivider, 0, rightOfLeftDivider, h);
+        mSelectionDivider.setBounds(leftOfLeftDivider, 0, rightOfLeftDivider, h);
+        mSelectionDivider.draw(canvas);
+        canvas.restore();
 
-        canvas.drawBitmap(mSpinBitmap, 0, 0, null);
-        canvas.drawBitmap(mSeparatorsBitmap, 0, 0, null);
+        // draw the right divider, one item further, keeping the same bounds
+        canvas.save();
+        canvas.translate(iw, 0);
+        canvas.clipRect(leftOfLeftDivider, 0, rightOfLeftDivider, h);
+        mSelectionDivider.draw(canvas);
         canvas.restore();
     }
 
@@ -0,0 +1,174 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import android.content.Context;
+import android.widget.TextView;
+
+import com.techdew.lib.R;
+
+/**
+ * Numeric spinnerwheel adapter showing values from min to max with a step.
+ * No objects are kept per item, and binding item views does not allocate.
+ */
+public class NumericWheelAdapter extends AbstractWheelTextAdapter {
+
+    /**
+     * Formats item values
+     */
+    public interface Formatter {
+        /**
+         * Appends the text of specified value
+         * @param value the item value
+         * @param out the builder to append the text to
+         */
+        void format(int value, StringBuilder out);
+    }
+
+    // Values
+    private final int minValue;
+    private final int maxValue;
+    private final int step;
+    private final int count;
+
+    // Format
+    private Formatter formatter;
+
+    // Reused for formatting values
+    private final StringBuilder textBuilder = new StringBuilder(16);
+
+    /**
+     * Constructor
+     * @param context the current context
+     * @param minValue the spinnerwheel min value
+     * @param maxValue the spinnerwheel max value
+     */
+    public NumericWheelAdapter(Context context, int minValue, int maxValue) {
+        this(context, minValue, maxValue, 1);
+    }
+
+    /**
+     * Constructor
+     * @param context the current context
+     * @param minValue the spinnerwheel min value
+     * @param maxValue the spinnerwheel max value, the last value is the greatest one not exceeding it
+     * @param step the difference between neighbour values
+     */
+    public NumericWheelAdapter(Context context, int minValue, int maxValue, int step) {
+        super(context);
+        if (step <= 0 || maxValue < minValue) {
+            throw new IllegalArgumentException("Invalid range " + minValue + ".." + maxValue + " with step " + step);
+        }
+        long count = ((long) maxValue - minValue) / step + 1;
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many values in range " + minValue + ".." + maxValue);
+        }
+
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.step = step;
+        this.count = (int) count;
+    }
+
+    public int getMinValue() {
+        return minValue;
+    }
+
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * Sets the formatter of item values
+     * @param formatter the formatter, or null to show plain numbers
+     */
+    public void setFormatter(Formatter formatter) {
+        this.formatter = formatter;
+        notifyDataChangedEvent();
+    }
+
+    /**
+     * Gets the value of specified item
+     * @param index the item index
+     * @return the item value
+     */
+    public int getValue(int index) {
+        return (int) (minValue + (long) index * step);
+    }
+
+    /**
+     * Gets the item showing specified value, or the closest lower one
+     * @param value the value
+     * @return the item index, or -1 if the value is out of range
+     */
+    public int getItemIndex(int value) {
+        if (value < minValue || value > maxValue) {
+            return -1;
+        }
+        return (int) (((long) value - minValue) / step);
+    }
+
+    @Override
+    public int getItemsCount() {
+        return count;
+    }
+
+    @Override
+    public CharSequence getItemText(int index) {
+        if (index >= 0 && index < count) {
+            formatValue(getValue(index));
+            return textBuilder.toString();
+        }
+        return null;
+    }
+
+    @Override
+    protected void bindItemText(TextView textView, int index) {
+        formatValue(getValue(index));
+        int length = textBuilder.length();
+
+        // text views keep the characters they show, so every view has its own buffer
+        char[] chars = (char[]) textView.getTag(R.id.wheel_text_view_chars);
+        if (chars == null || chars.length < length) {
+            chars = new char[Math.max(16, length)];
+            textView.setTag(R.id.wheel_text_view_chars, chars);
+        }
+        textBuilder.getChars(0, length, chars, 0);
+        textView.setText(chars, 0, length);
+    }
+
+    private void formatValue(int value) {
+        textBuilder.setLength(0);
+        if (formatter != null) {
+            formatter.format(value, textBuilder);
+        } else {
+            textBuilder.append(value);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+/**
+ * Wheel scroll progress listener interface.
+ * <p>The listener follows the wheel position continuously, e.g. to drive other
+ * animations from it. It is notified at most once per drawn frame, and only when
+ * the position changed since the previous notification.
+ */
+public interface OnWheelProgressListener {
+	/**
+	 * Callback method to be invoked when a frame shows the spinnerwheel at a new position.
+	 * @param wheel the spinnerwheel view whose position has changed
+	 * @param position the current item index plus the fraction of an item scrolled past it,
+	 *                 e.g. 4.5 when halfway between items 4 and 5. A double keeps the fraction
+	 *                 for adapters of more than 2^24 items.
+	 * @param velocity the scroll velocity in items per second, positive towards higher indices
+	 */
+	void onScrollProgress(AbstractWheel wheel, double position, float velocity);
+}
@@ -43,12 +43,12 @@ public class VerticalScroller extends WheelScroller {
 
     @Override
     protected int getCurrentScrollerPosition() {
-        return scroller.getCurrY();
+        return scroller.getCurrPosition();
     }
 
     @Override
     protected int getFinalScrollerPosition() {
-        return scroller.getFinalY();
+        return scroller.getFinalPosition();
     }
 
     @Override
@@ -59,13 +59,11 @@ public class VerticalScroller extends WheelScroller {
 
     @Override
     protected void scrollerStartScroll(int distance, int time) {
-        scroller.startScroll(0, 0, 0, distance, time);
+        scroller.startScroll(now(), 0, distance, time);
     }
 
     @Override
     protected void scrollerFling(int position, int velocityX, int velocityY) {
-        final int maxPosition = 0x7FFFFFFF;
-        final int minPosition = -maxPosition;
-        scroller.fling(0, position, 0, -velocityY, 0, 0, minPosition, maxPosition);
+        scroller.fling(now(), position, -velocityY);
     }
 }
@@ -32,8 +32,6 @@ import android.graphics.Shader;
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
-import android.view.ViewGroup.LayoutParams;
-import android.widget.LinearLayout;
 
 import com.techdew.lib.R;
 
@@ -57,9 +55,6 @@ public class VerticalView extends AbstractWheelView {
 
     // Cached item height
     private int mItemHeight = 0;
-    public Canvas mC;
-    public Canvas mCSpin;
-    public Canvas mCSeparators;
 
     //--------------------------------------------------------------------------
     //
@@ -114,19 +109,9 @@ public class VerticalView extends AbstractWheelView {
     }
 
     @Override
-    protected void recreateAssets(int width, int height) {
-        super.recreateAssets(width, height);
-        mC = new Canvas(mSpinBitmap);
-        mCSpin = new Canvas(mSpinBitmap);
-        mCSeparators = new Canvas(mSeparatorsBitmap);
-    }
-
-    @Override
-    public void setSelectorPaintCoeff(float coeff) {
-        LinearGradient shader;
-
-        int h = getMeasuredHeight();
-        int ih = getItemDimension();
+    protected Shader createSelectorShader(int width, int height, int itemDimension, float coeff) {
+        int h = height;
+        int ih = itemDimension;
         float p1 = (1 - ih/(float) h)/2;
         float p2 = (1 + ih/(float) h)/2;
         float z = mItemsDimmedAlpha * (1 - coeff);
@@ -137,7 +122,7 @@ public class VerticalView extends AbstractWheelView {
             int c2 = Math.round( z ) << 24;
             int[] colors =      {c2, c1, 0xff000000, 0xff000000, c1, c2};
             float[] positions = { 0, p1,     p1,         p2,     p2,  1};
-            shader = new LinearGradient(0, 0, 0, h, colors, positions, Shader.TileMode.CLAMP);
+            return new LinearGradient(0, 0, 0, h, colors, positions, Shader.TileMode.CLAMP);
         } else {
             float p3 = (1 - ih*3/(float) h)/2;
             float p4 = (1 + ih*3/(float) h)/2;
@@ -152,10 +137,8 @@ public class VerticalView extends AbstractWheelView {
 
             int[] colors =      {0, c3, c2, c1, 0xff000000, 0xff000000, c1, c2, c3, 0};
             float[] positions = {0, p3, p3, p1,     p1,         p2,     p2, p4, p4, 1};
-            shader = new LinearGradient(0, 0, 0, h, colors, positions, Shader.TileMode.CLAMP);
+            return new LinearGradient(0, 0, 0, h, colors, positions, Shader.TileMode.CLAMP);
         }
-        mSelectorWheelPaint.setShader(shader);
-        invalidate();
     }
 
 
@@ -170,6 +153,11 @@ public class VerticalView extends AbstractWheelView {
         return new VerticalScroller(getContext(), scrollingListener);
     }
 
+    @Override
+    protected WheelTextRenderer createTextRenderer() {
+        return new WheelTextRenderer(WheelTextRenderer.VERTICAL);
+    }
+
     @Override
     protected float getMotionEventPosition(MotionEvent event) {
         return event.getY();
@@ -192,13 +180,23 @@ public class VerticalView extends AbstractWheelView {
      */
     @Override
     protected int getItemDimension() {
+        if (isDirectTextDrawing()) {
+            return getTextItemDimension();
+        }
+
+        if (mItemSize > 0) {
+            return mItemSize;
+        }
+
         if (mItemHeight != 0) {
             return mItemHeight;
         }
 
-        if (mItemsLayout != null && mItemsLayout.getChildAt(0) != null) {
-            mItemHeight = mItemsLayout.getChildAt(0).getMeasuredHeight();
-            return mItemHeight;
+        if (mItemsLayout != null && mItemsLayout.getItemCount() > 0) {
+            mItemHeight = mItemsLayout.getItemAt(0).getMeasuredHeight();
+            if (mItemHeight != 0) {
+                return mItemHeight;
+            }
         }
 
         return getBaseDimension() / mVisibleItems;
@@ -216,21 +214,20 @@ public class VerticalView extends AbstractWheelView {
     @Override
     protected void createItemsLayout() {
         if (mItemsLayout == null) {
-            mItemsLayout = new LinearLayout(getContext());
-            mItemsLayout.setOrientation(LinearLayout.VERTICAL);
+            mItemsLayout = new WheelItemsLayout(getContext(), WheelItemsLayout.VERTICAL);
+            mItemsLayout.setItemSize(mItemSize);
         }
     }
 
     @Override
     protected void doItemsLayout() {
         mItemsLayout.layout(0, 0, getMeasuredWidth() - 2 * mItemsPadding, getMeasuredHeight());
+        mItemsLayout.layoutItems(getItemDimension());
     }
 
 
     @Override
     protected void measureLayout() {
-        mItemsLayout.setLayoutParams(new LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.WRAP_CONTENT));
-
         mItemsLayout.measure(
                 View.MeasureSpec.makeMeasureSpec(getWidth() - 2 * mItemsPadding, View.MeasureSpec.EXACTLY),
                 View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
@@ -238,16 +235,29 @@ public class VerticalView extends AbstractWheelView {
         
     }
 
+    @Override
+    protected int measureItemViews() {
+        int width = Math.max(getWidth() - 2 * mItemsPadding, 0);
+        return mItemsLayout.measureItems(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY));
+    }
+
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-
         int widthMode = View.MeasureSpec.getMode(widthMeasureSpec);
         int heightMode = View.MeasureSpec.getMode(heightMeasureSpec);
         int widthSize = View.MeasureSpec.getSize(widthMeasureSpec);
         int heightSize = View.MeasureSpec.getSize(heightMeasureSpec);
 
-        rebuildItems(); // rebuilding before measuring
+        // a wrapped width follows the items shown, only an exact one can be reused
+        if (widthMode == View.MeasureSpec.EXACTLY
+                && setCachedMeasuredDimension(widthMeasureSpec, heightMeasureSpec)) {
+            return;
+        }
+
+        if (!isDirectTextDrawing()) {
+            rebuildItems(); // rebuilding before measuring
+        }
 
         int width = calculateLayoutWidth(widthSize, widthMode);
 
@@ -265,6 +275,7 @@ public class VerticalView extends AbstractWheelView {
             }
         }
         setMeasuredDimension(width, height);
+        cacheMeasuredDimension(widthMeasureSpec, heightMeasureSpec);
     }
 
     /**
@@ -274,12 +285,18 @@ public class VerticalView extends AbstractWheelView {
      * @return the calculated control width
      */
     private int calculateLayoutWidth(int widthSize, int mode) {
-        mItemsLayout.setLayoutParams(new LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.WRAP_CONTENT));
-        mItemsLayout.measure(
-                View.MeasureSpec.makeMeasureSpec(widthSize, View.MeasureSpec.UNSPECIFIED),
-                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
-        );
-        int width = mItemsLayout.getMeasuredWidth();
+        int width;
+        if (mode == View.MeasureSpec.EXACTLY) {
+            width = 0; // content is not needed
+        } else if (isDirectTextDrawing()) {
+            width = mTextRenderer.getCrossSize(mCurrentItemIdx);
+        } else {
+            mItemsLayout.measure(
+                    View.MeasureSpec.makeMeasureSpec(widthSize, View.MeasureSpec.UNSPECIFIED),
+                    View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
+            );
+            width = mItemsLayout.getMeasuredWidth();
+        }
 
         if (mode == View.MeasureSpec.EXACTLY) {
             width = widthSize;
@@ -294,16 +311,19 @@ public class VerticalView extends AbstractWheelView {
             }
         }
 
-        // forcing recalculating
-        mItemsLayout.measure(
-                View.MeasureSpec.makeMeasureSpec(width - 2 * mItemsPadding, View.MeasureSpec.EXACTLY),
-                View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
-        );
+        if (!isDirectTextDrawing()) {
+            // forcing recalculating
+            mItemsLayout.measure(
+                    View.MeasureSpec.makeMeasureSpec(width - 2 * mItemsPadding, View.MeasureSpec.EXACTLY),
+                    View.MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED)
+            );
+        }
 
         return width;
     }
 
 
+
     //--------------------------------------------------------------------------
     //
     //  Drawing items
@@ -311,45 +331,31 @@ public class VerticalView extends AbstractWheelView {
     //--------------------------------------------------------------------------
 
     @Override
-    protected void drawItems(Canvas canvas) {
+    protected void drawItemsLayout(Canvas canvas) {
+        int ih = getItemDimension();
+        int top = (mCurrentItemPosition - mFirstItemIdx) * ih + (ih - getHeight()) / 2;
         canvas.save();
+        canvas.translate(mItemsPadding, - top + mScrollingOffset);
+        drawItemViews(canvas);
+        canvas.restore();
+    }
+
+    @Override
+    protected void drawSelectionDividers(Canvas canvas) {
         int w = getMeasuredWidth();
-        int h = getMeasuredHeight();
         int ih = getItemDimension();
 
-        // resetting intermediate bitmap and recreating canvases
-        mSpinBitmap.eraseColor(0);
-        mC.save();
-        mCSpin.save();
-
-        int top = (mCurrentItemIdx - mFirstItemIdx) * ih + (ih - getHeight()) / 2;
-        mC.translate(mItemsPadding, - top + mScrollingOffset);
-        mItemsLayout.draw(mC);
-
-        mSeparatorsBitmap.eraseColor(0);
-
-        if (mSelectionDivider != null) {
-            // draw the top divider
-            int topOfTopDivider = (getHeight() - ih - mSelectionDividerHeight) / 2;
-            int bottomOfTopDivider = topOfTopDivider + mSelectionDividerHeight;
-            mSelectionDivider.setBounds(0, topOfTopDivider, w, bottomOfTopDivider);
-            mSelectionDivider.draw(mCSeparators);
-
-            // draw the bottom divider
-            int topOfBottomDivider =  topOfTopDivider + ih;
-            int bottomOfBottomDivider = bottomOfTopDivider + ih;
-            mSelectionDivider.setBounds(0, topOfBottomDivider, w, bottomOfBottomDivider);
-            mSelectionDivider.draw(mCSeparators);
-        }
+        // draw the top divider
+        int topOfTopDivider = (getHeight() - ih - mSelectionDividerHeight) / 2;
+        int bottomOfTopDivider = topOfTopDivider + mSelectionDividerHeight;
+        mSelectionDivider.setBounds(0, topOfTopDivider, w, bottomOfTopDivider);
+        mSelectionDivider.draw(canvas);
 
-        mCSpin.drawRect(0, 0, w, h, mSelectorWheelPaint);
-        mCSeparators.drawRect(0, 0, w, h, mSeparatorsPaint);
-
-        canvas.drawBitmap(mSpinBitmap, 0, 0, null);
-        canvas.drawBitmap(mSeparatorsBitmap, 0, 0, null);
+        // draw the bottom divider, one item further, keeping the same bounds
+        canvas.save();
+        canvas.translate(0, ih);
+        mSelectionDivider.draw(canvas);
         canvas.restore();
-        mC.restore();
-        mCSpin.restore();
     }
 
 }
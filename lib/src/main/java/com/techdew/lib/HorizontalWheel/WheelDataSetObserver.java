@@ -0,0 +1,63 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import android.database.DataSetObserver;
+
+/**
+ * Data set observer receiving changes of single items and item ranges.
+ * Every notification falls back to {@link #onChanged()} unless overridden.
+ *
+ * @see AbstractWheelAdapter#notifyItemRangeChanged(int, int)
+ */
+public abstract class WheelDataSetObserver extends DataSetObserver {
+
+    /**
+     * Called when items of the range have changed their data, item positions are kept
+     * @param start the index of the first changed item
+     * @param count the number of changed items
+     */
+    public void onItemRangeChanged(int start, int count) {
+        onChanged();
+    }
+
+    /**
+     * Called when items have been inserted, items from <code>start</code> are moved forward
+     * @param start the index of the first inserted item
+     * @param count the number of inserted items
+     */
+    public void onItemRangeInserted(int start, int count) {
+        onChanged();
+    }
+
+    /**
+     * Called when items have been removed, items after the range are moved back
+     * @param start the index of the first removed item, as it was before removal
+     * @param count the number of removed items
+     */
+    public void onItemRangeRemoved(int start, int count) {
+        onChanged();
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import android.graphics.Bitmap;
+import android.util.LongSparseArray;
+
+/**
+ * Keeps rendered spinnerwheel items as bitmaps, keyed by adapter index and selected state.
+ * The least recently used snapshots are dropped when the cache exceeds its byte budget.
+ * Snapshots drawn in the current frame may still be referenced by its display list,
+ * so they are never dropped to make room, and their bitmaps are reused only from the
+ * next frame on.
+ */
+public class WheelItemSnapshotCache {
+
+    /**
+     * Cached snapshot, linked in order of use
+     */
+    private static class Entry {
+        long key;
+        Bitmap bitmap;
+        // The frame the snapshot was last used in
+        int frame;
+        Entry prev;
+        Entry next;
+    }
+
+    // Max size of all snapshots in bytes
+    private int maxBytes;
+    private int bytes;
+
+    private final LongSparseArray<Entry> entries = new LongSparseArray<Entry>();
+
+    // Most and least recently used entries
+    private Entry head;
+    private Entry tail;
+
+    // Released entries and the last evicted bitmap, reused for new snapshots
+    private Entry freeEntries;
+    private Bitmap spareBitmap;
+
+    // Bitmap evicted while drawn in the current frame, spare from the next frame on
+    private Bitmap deferredBitmap;
+
+    private int frame;
+
+    /**
+     * Constructor
+     * @param maxBytes the max size of all snapshots in bytes
+     */
+    public WheelItemSnapshotCache(int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Sets the byte budget, dropping snapshots exceeding it
+     * @param maxBytes the max size of all snapshots in bytes
+     */
+    public void setMaxBytes(int maxBytes) {
+        this.maxBytes = maxBytes;
+        trimTo(maxBytes);
+    }
+
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Gets the size of cached snapshots
+     * @return the size in bytes
+     */
+    public int getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Starts a new frame. Snapshots used so far are no longer drawn by the current frame.
+     */
+    public void nextFrame() {
+        frame++;
+        if (deferredBitmap != null) {
+            spareBitmap = deferredBitmap;
+            deferredBitmap = null;
+        }
+    }
+
+    /**
+     * Gets the snapshot of specified item and marks it as recently used
+     * @param index the item index
+     * @param isSelected whether the item was rendered as the current one
+     * @return the snapshot, or null if it is not cached
+     */
+    public Bitmap get(int index, boolean isSelected) {
+        Entry entry = entries.get(key(index, isSelected));
+        if (entry == null) {
+            return null;
+        }
+        if (entry != head) {
+            unlink(entry);
+            linkFirst(entry);
+        }
+        entry.frame = frame;
+        return entry.bitmap;
+    }
+
+    /**
+     * Gets a bitmap to render a new snapshot into, dropping old snapshots to make room for it.
+     * A bitmap of the same size dropped in an earlier frame is erased and reused.
+     *
+     * @param width the snapshot width
+     * @param height the snapshot height
+     * @return the bitmap, or null if a snapshot of this size does not fit the budget
+     *          next to the snapshots of the current frame
+     */
+    public Bitmap obtain(int width, int height) {
+        int size = width * height * 4;
+        if (width <= 0 || height <= 0 || size > maxBytes) {
+            return null;
+        }
+        while (bytes > maxBytes - size && tail != null && tail.frame != frame) {
+            evict(tail);
+        }
+        if (bytes > maxBytes - size) {
+            return null; // the visible items exceed the budget
+        }
+
+        Bitmap bitmap = spareBitmap;
+        spareBitmap = null;
+        if (bitmap != null && bitmap.getWidth() == width && bitmap.getHeight() == height) {
+            bitmap.eraseColor(0);
+            return bitmap;
+        }
+        return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+
+    /**
+     * Caches the snapshot of specified item
+     * @param index the item index
+     * @param isSelected whether the item was rendered as the current one
+     * @param bitmap the snapshot
+     */
+    public void put(int index, boolean isSelected, Bitmap bitmap) {
+        long key = key(index, isSelected);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            unlink(entry);
+            bytes -= entry.bitmap.getByteCount();
+        } else {
+            entry = obtainEntry();
+            entry.key = key;
+            entries.put(key, entry);
+        }
+        entry.bitmap = bitmap;
+        entry.frame = frame;
+        bytes += bitmap.getByteCount();
+        linkFirst(entry);
+        trimTo(maxBytes);
+    }
+
+    /**
+     * Drops snapshots of specified item
+     * @param index the item index
+     */
+    public void remove(int index) {
+        remove(key(index, false));
+        remove(key(index, true));
+    }
+
+    /**
+     * Moves snapshots after items have been inserted or removed. Snapshots of
+     * removed items are dropped, snapshots of items after the change are re-keyed.
+     *
+     * @param start the index of the first inserted or removed item
+     * @param count the number of items
+     * @param delta the change of the items count, count or -count
+     */
+    public void shiftItems(int start, int count, int delta) {
+        if (delta < 0) {
+            for (int i = start; i < start + count; i++) {
+                remove(i);
+            }
+        }
+        int moved = delta < 0 ? start + count : start;
+        entries.clear();
+        for (Entry entry = head; entry != null; entry = entry.next) {
+            long index = entry.key >> 1;
+            if (index >= moved) {
+                entry.key += (long) delta << 1;
+            }
+            entries.put(entry.key, entry);
+        }
+    }
+
+    /**
+     * Drops all snapshots
+     */
+    public void clear() {
+        while (tail != null) {
+            evict(tail);
+        }
+        spareBitmap = null;
+        deferredBitmap = null;
+    }
+
+    private void remove(long key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            evict(entry);
+        }
+    }
+
+    private void trimTo(int maxSize) {
+        while (bytes > maxSize && tail != null) {
+            evict(tail);
+        }
+    }
+
+    private void evict(Entry entry) {
+        unlink(entry);
+        entries.delete(entry.key);
+        bytes -= entry.bitmap.getByteCount();
+        if (entry.frame == frame) {
+            deferredBitmap = entry.bitmap;
+        } else {
+            spareBitmap = entry.bitmap;
+        }
+        entry.bitmap = null;
+        entry.next = freeEntries;
+        freeEntries = entry;
+    }
+
+    private Entry obtainEntry() {
+        Entry entry = freeEntries;
+        if (entry == null) {
+            return new Entry();
+        }
+        freeEntries = entry.next;
+        entry.next = null;
+        return entry;
+    }
+
+    private void linkFirst(Entry entry) {
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        head = entry;
+        if (tail == null) {
+            tail = entry;
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            head = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        } else {
+            tail = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private static long key(int index, boolean isSelected) {
+        return ((long) index << 1) | (isSelected ? 1 : 0);
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * Container of spinnerwheel item views.
+ * Views are kept in a ring buffer, so adding and removing items at either end
+ * does not move other views. Views are not attached as children, so binding an
+ * item does not request a layout of the container; items are placed one item
+ * dimension apart by {@link #layoutItems(int)}, and only when they have changed.
+ * {@link #measureItems(int)} measures only views added or rebound since they were
+ * measured, unless the size across the orientation changes.
+ */
+public class WheelItemsLayout extends ViewGroup {
+
+    /** Items are placed from left to right */
+    public static final int HORIZONTAL = 0;
+
+    /** Items are placed from top to bottom */
+    public static final int VERTICAL = 1;
+
+    private final int orientation;
+
+    // Ring buffer of item views, the first item is at head
+    private View[] items = new View[8];
+    // Whether the view in a slot has been added or rebound since it was measured
+    private boolean[] unmeasured = new boolean[8];
+    private int head;
+    private int count;
+
+    // Size of items along the orientation, 0 if items are measured to fit their content
+    private int itemSize;
+
+    // Dimension items have been placed with, -1 if items must be placed again
+    private int laidOutDimension = -1;
+
+    // Measure spec across the orientation items have been measured with, -1 if all items
+    // must be measured again
+    private int measuredCrossSpec = -1;
+
+    /**
+     * Constructor
+     * @param context the context
+     * @param orientation {@link #HORIZONTAL} or {@link #VERTICAL}
+     */
+    public WheelItemsLayout(Context context, int orientation) {
+        super(context);
+        this.orientation = orientation;
+    }
+
+    public int getOrientation() {
+        return orientation;
+    }
+
+    /**
+     * Sets the size of items along the orientation
+     * @param itemSize the item size in pixels, 0 to measure items to fit their content
+     */
+    public void setItemSize(int itemSize) {
+        if (this.itemSize != itemSize) {
+            this.itemSize = itemSize;
+            invalidateItemsLayout();
+        }
+    }
+
+    public int getItemSize() {
+        return itemSize;
+    }
+
+    //--------------------------------------------------------------------------
+    //
+    //  Items
+    //
+    //--------------------------------------------------------------------------
+
+    public int getItemCount() {
+        return count;
+    }
+
+    /**
+     * Gets item view
+     * @param position the position of the view, 0 for the first item
+     * @return the view
+     */
+    public View getItemAt(int position) {
+        checkPosition(position);
+        return items[slot(position)];
+    }
+
+    /**
+     * Replaces item view
+     * @param position the position of the view, 0 for the first item
+     * @param view the new view
+     */
+    public void setItemAt(int position, View view) {
+        checkPosition(position);
+        checkItemLayoutParams(view);
+        items[slot(position)] = view;
+        unmeasured[slot(position)] = true;
+        invalidateItemsPlacement();
+    }
+
+    /**
+     * Marks item view for measuring again, e.g. after it has been rebound in place
+     * @param position the position of the view, 0 for the first item
+     */
+    public void invalidateItem(int position) {
+        checkPosition(position);
+        unmeasured[slot(position)] = true;
+        requestLayout();
+    }
+
+    /**
+     * Adds view before the first item
+     * @param view the view to add
+     */
+    public void addFirst(View view) {
+        checkItemLayoutParams(view);
+        ensureCapacity();
+        head = (head - 1 + items.length) % items.length;
+        items[head] = view;
+        unmeasured[head] = true;
+        count++;
+        invalidateItemsPlacement();
+    }
+
+    /**
+     * Adds view after the last item
+     * @param view the view to add
+     */
+    public void addLast(View view) {
+        checkItemLayoutParams(view);
+        ensureCapacity();
+        items[slot(count)] = view;
+        unmeasured[slot(count)] = true;
+        count++;
+        invalidateItemsPlacement();
+    }
+
+    /**
+     * Removes item views. Removing views at either end moves no other view.
+     * @param start the position of the first view to remove
+     * @param removed the number of views to remove
+     */
+    public void removeItems(int start, int removed) {
+        if (removed <= 0) {
+            return;
+        }
+        checkPosition(start);
+        checkPosition(start + removed - 1);
+        if (start == 0) {
+            for (int i = 0; i < removed; i++) {
+                items[slot(i)] = null;
+            }
+            head = slot(removed);
+        } else {
+            // closing the gap, views after the removed ones move towards the head
+            for (int i = start + removed; i < count; i++) {
+                items[slot(i - removed)] = items[slot(i)];
+                unmeasured[slot(i - removed)] = unmeasured[slot(i)];
+            }
+            for (int i = count - removed; i < count; i++) {
+                items[slot(i)] = null;
+            }
+        }
+        count -= removed;
+        if (count == 0) {
+            head = 0;
+        }
+        invalidateItemsPlacement();
+    }
+
+    /**
+     * Removes all item views
+     */
+    public void removeAllItems() {
+        removeItems(0, count);
+    }
+
+    private int slot(int position) {
+        return (head + position) % items.length;
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= count) {
+            throw new IndexOutOfBoundsException("position " + position + ", count " + count);
+        }
+    }
+
+    private void ensureCapacity() {
+        if (count == items.length) {
+            View[] grown = new View[items.length * 2];
+            boolean[] grownUnmeasured = new boolean[grown.length];
+            for (int i = 0; i < count; i++) {
+                grown[i] = items[slot(i)];
+                grownUnmeasured[i] = unmeasured[slot(i)];
+            }
+            items = grown;
+            unmeasured = grownUnmeasured;
+            head = 0;
+        }
+    }
+
+    /**
+     * Gives the view the layout params {@link #addView(View)} would give it.
+     * Views are not attached, but a text view requires params to be rebound.
+     */
+    private void checkItemLayoutParams(View view) {
+        if (view.getLayoutParams() == null) {
+            view.setLayoutParams(generateDefaultLayoutParams());
+        }
+    }
+
+    /**
+     * Marks items for measuring and placing again, e.g. after a view has been
+     * rebound in place with content of another size
+     */
+    public void invalidateItemsLayout() {
+        measuredCrossSpec = -1;
+        invalidateItemsPlacement();
+    }
+
+    private void invalidateItemsPlacement() {
+        laidOutDimension = -1;
+        // the container is never attached, this only marks it for measuring
+        requestLayout();
+    }
+
+    //--------------------------------------------------------------------------
+    //
+    //  Measuring and layout
+    //
+    //--------------------------------------------------------------------------
+
+    /**
+     * Measures item views added or rebound since they were measured, or all item views
+     * if the measure spec across the orientation has changed. Along the orientation items
+     * are measured at the item size or to fit their content.
+     *
+     * @param crossMeasureSpec the measure spec across the orientation
+     * @return the number of item views measured
+     */
+    public int measureItems(int crossMeasureSpec) {
+        boolean all = crossMeasureSpec != measuredCrossSpec;
+        int measured = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = slot(i);
+            if (all || unmeasured[slot]) {
+                measureItem(items[slot], crossMeasureSpec);
+                unmeasured[slot] = false;
+                measured++;
+            }
+        }
+        measuredCrossSpec = crossMeasureSpec;
+        return measured;
+    }
+
+    private void measureItem(View item, int crossMeasureSpec) {
+        if (item.isLayoutRequested()) {
+            // a rebound view keeps requesting a measure until it is laid out again
+            laidOutDimension = -1;
+        }
+        int width = item.getMeasuredWidth();
+        int height = item.getMeasuredHeight();
+
+        LayoutParams params = item.getLayoutParams();
+        int mainDimension = LayoutParams.WRAP_CONTENT;
+        int crossDimension = LayoutParams.WRAP_CONTENT;
+        if (params != null) {
+            mainDimension = orientation == HORIZONTAL ? params.width : params.height;
+            crossDimension = orientation == HORIZONTAL ? params.height : params.width;
+        }
+        int mainSpec = itemSize > 0
+                ? MeasureSpec.makeMeasureSpec(itemSize, MeasureSpec.EXACTLY)
+                : getChildMeasureSpec(MeasureSpec.makeMeasureSpec(0, MeasureSpec.UNSPECIFIED), 0, mainDimension);
+        int crossSpec = getChildMeasureSpec(crossMeasureSpec, 0, crossDimension);
+        if (orientation == HORIZONTAL) {
+            item.measure(mainSpec, crossSpec);
+        } else {
+            item.measure(crossSpec, mainSpec);
+        }
+
+        if (width != item.getMeasuredWidth() || height != item.getMeasuredHeight()) {
+            laidOutDimension = -1;
+        }
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int crossMeasureSpec = orientation == HORIZONTAL ? heightMeasureSpec : widthMeasureSpec;
+        // a measure of the container measures all items
+        measuredCrossSpec = -1;
+        measureItems(crossMeasureSpec);
+        int crossSize = 0;
+        int mainSize = 0;
+        for (int i = 0; i < count; i++) {
+            View item = items[slot(i)];
+            crossSize = Math.max(crossSize, orientation == HORIZONTAL ? item.getMeasuredHeight() : item.getMeasuredWidth());
+        }
+        if (count > 0) {
+            View first = items[head];
+            mainSize = count * (orientation == HORIZONTAL ? first.getMeasuredWidth() : first.getMeasuredHeight());
+        }
+        if (orientation == HORIZONTAL) {
+            setMeasuredDimension(resolveSize(mainSize, widthMeasureSpec), resolveSize(crossSize, heightMeasureSpec));
+        } else {
+            setMeasuredDimension(resolveSize(crossSize, widthMeasureSpec), resolveSize(mainSize, heightMeasureSpec));
+        }
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        // items are placed by layoutItems()
+    }
+
+    /**
+     * Places item views one item dimension apart, the first item at the origin.
+     * Items are placed again only if views have been added, removed or resized,
+     * so a scroll that keeps the same items costs nothing.
+     *
+     * @param itemDimension the distance between items
+     */
+    public void layoutItems(int itemDimension) {
+        if (laidOutDimension == itemDimension) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            View item = items[slot(i)];
+            int offset = i * itemDimension;
+            if (orientation == HORIZONTAL) {
+                item.layout(offset, 0, offset + item.getMeasuredWidth(), item.getMeasuredHeight());
+            } else {
+                item.layout(0, offset, item.getMeasuredWidth(), offset + item.getMeasuredHeight());
+            }
+        }
+        laidOutDimension = itemDimension;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write list of listeners. Adding and removing listeners replaces the array,
+ * so listeners may be added or removed while being notified, and notifying them
+ * iterates the array without allocating.
+ *
+ * @param <T> the listener type
+ */
+final class WheelListeners<T> {
+
+    private T[] listeners;
+
+    /**
+     * Constructor
+     * @param empty an empty array of the listener type
+     */
+    WheelListeners(T[] empty) {
+        listeners = empty;
+    }
+
+    void add(T listener) {
+        T[] added = Arrays.copyOf(listeners, listeners.length + 1);
+        added[listeners.length] = listener;
+        listeners = added;
+    }
+
+    void remove(T listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listener == null ? listeners[i] == null : listener.equals(listeners[i])) {
+                T[] removed = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, removed, i, listeners.length - i - 1);
+                listeners = removed;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the listeners to notify. The array is never modified, changes made
+     * while iterating it take effect with the next notification.
+     *
+     * @return the current listeners
+     */
+    T[] get() {
+        return listeners;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import java.util.Arrays;
+
+/**
+ * Drawing and work counters of a spinnerwheel, collected once enabled with
+ * {@link AbstractWheel#setMetricsEnabled(boolean)} and read with
+ * {@link AbstractWheel#getMetrics(WheelMetrics)}.
+ */
+public final class WheelMetrics {
+
+    /** Number of buckets in {@link #scrollFrameHistogram} */
+    public static final int HISTOGRAM_BUCKETS = 5;
+
+    /** Number of frames drawn */
+    public int frames;
+    /** Time spent in drawing the last frame, in nanoseconds */
+    public long lastDrawNanos;
+    /** Time spent in drawing all frames, in nanoseconds */
+    public long totalDrawNanos;
+    /** Longest time spent in drawing a frame, in nanoseconds */
+    public long maxDrawNanos;
+
+    /**
+     * Frames drawn while scrolling, by the number of display frames since the previous
+     * one: bucket 0 counts frames drawn on time, bucket n counts frames that missed
+     * n display frames, the last bucket also counts the longer misses.
+     */
+    public final int[] scrollFrameHistogram = new int[HISTOGRAM_BUCKETS];
+
+    /** Number of item rebuilds */
+    public int rebuilds;
+    /** Number of items bound by the adapter */
+    public int binds;
+    /** Number of item views taken from the recycler */
+    public int recyclerHits;
+    /** Number of item views asked for but missing from the recycler */
+    public int recyclerMisses;
+    /** Number of item views the adapter created instead of reusing a given one */
+    public int inflations;
+    /** Number of items layout measurements, or of passes measuring items of a fixed size */
+    public int measureLayouts;
+    /** Number of spinnerwheel invalidations */
+    public int invalidates;
+
+    // Duration of a display frame, and time of the previous frame drawn while scrolling
+    long frameIntervalNanos = 1000000000L / 60;
+    long lastScrollFrameNanos;
+
+    /**
+     * Copies the metrics to the given object
+     * @param out the object to copy the metrics to
+     */
+    public void copyTo(WheelMetrics out) {
+        out.frames = frames;
+        out.lastDrawNanos = lastDrawNanos;
+        out.totalDrawNanos = totalDrawNanos;
+        out.maxDrawNanos = maxDrawNanos;
+        System.arraycopy(scrollFrameHistogram, 0, out.scrollFrameHistogram, 0, HISTOGRAM_BUCKETS);
+        out.rebuilds = rebuilds;
+        out.binds = binds;
+        out.recyclerHits = recyclerHits;
+        out.recyclerMisses = recyclerMisses;
+        out.inflations = inflations;
+        out.measureLayouts = measureLayouts;
+        out.invalidates = invalidates;
+    }
+
+    /**
+     * Sets all the metrics to zero
+     */
+    public void reset() {
+        frames = 0;
+        lastDrawNanos = 0;
+        totalDrawNanos = 0;
+        maxDrawNanos = 0;
+        Arrays.fill(scrollFrameHistogram, 0);
+        rebuilds = 0;
+        binds = 0;
+        recyclerHits = 0;
+        recyclerMisses = 0;
+        inflations = 0;
+        measureLayouts = 0;
+        invalidates = 0;
+        lastScrollFrameNanos = 0;
+    }
+
+    /**
+     * Records a drawn frame
+     * @param startNanos the time drawing started at
+     * @param endNanos the time drawing ended at
+     * @param scrolling whether the spinnerwheel is scrolling
+     */
+    void recordFrame(long startNanos, long endNanos, boolean scrolling) {
+        long drawNanos = endNanos - startNanos;
+        frames++;
+        lastDrawNanos = drawNanos;
+        totalDrawNanos += drawNanos;
+        if (drawNanos > maxDrawNanos) {
+            maxDrawNanos = drawNanos;
+        }
+
+        if (!scrolling) {
+            lastScrollFrameNanos = 0;
+            return;
+        }
+        if (lastScrollFrameNanos != 0) {
+            // rounding so that vsync jitter does not count as a missed frame
+            long missed = (startNanos - lastScrollFrameNanos + frameIntervalNanos / 2) / frameIntervalNanos - 1;
+            scrollFrameHistogram[(int) Math.max(0, Math.min(missed, HISTOGRAM_BUCKETS - 1))]++;
+        }
+        lastScrollFrameNanos = startNanos;
+    }
+}
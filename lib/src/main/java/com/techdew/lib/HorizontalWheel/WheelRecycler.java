@@ -25,13 +25,12 @@
 package com.techdew.lib.HorizontalWheel;
 
 import android.view.View;
-import android.widget.LinearLayout;
 
-import java.util.LinkedList;
-import java.util.List;
+import com.techdew.lib.R;
 
 /**
  * Recycle stored spinnerwheel items to reuse.
+ * Item views are kept in bounded pools, one pool per view type of the adapter.
  */
 public class WheelRecycler {
 
@@ -39,11 +38,53 @@ public class WheelRecycler {
     @SuppressWarnings("unused")
     private static final String LOG_TAG = WheelRecycler.class.getName();
 
-    // Cached items
-    private List<View> items;
+    /** Views kept per view type in addition to visible items, when no max pool size is set */
+    private static final int DEF_EXTRA_POOL_SIZE = 2;
+
+    /**
+     * Stack of views of a single type
+     */
+    private static class Pool {
+        View[] views = new View[0];
+        int count;
+
+        void push(View view, int limit) {
+            trim(limit - 1); // the limit may have been lowered since the views were pushed
+            if (count == views.length) {
+                View[] grown = new View[Math.min(limit, Math.max(4, count * 2))];
+                System.arraycopy(views, 0, grown, 0, count);
+                views = grown;
+            }
+            views[count++] = view;
+        }
+
+        View pop() {
+            if (count == 0) {
+                return null;
+            }
+            View view = views[--count];
+            views[count] = null;
+            return view;
+        }
+
+        void trim(int size) {
+            while (count > size && count > 0) {
+                views[--count] = null;
+            }
+        }
+    }
+
+    // Cached items by view type
+    private Pool[] items = new Pool[0];
 
     // Cached empty items
-    private List<View> emptyItems;
+    private final Pool emptyItems = new Pool();
+
+    // Max views kept per view type, 0 to follow the number of visible items
+    private int maxPoolSize;
+
+    // Items kept by the last recycling, reused between frames
+    private final ItemsRange keptItems = new ItemsRange();
 
     // Wheel view
     private AbstractWheel wheel;
@@ -56,6 +97,36 @@ public class WheelRecycler {
         this.wheel = wheel;
     }
 
+    /**
+     * Sets the max number of views kept per view type.
+     * @param maxPoolSize the max pool size, 0 to keep as many views as the wheel shows
+     */
+    public void setMaxPoolSize(int maxPoolSize) {
+        this.maxPoolSize = Math.max(0, maxPoolSize);
+        int limit = getPoolLimit();
+        for (Pool pool : items) {
+            pool.trim(limit);
+        }
+        emptyItems.trim(limit);
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    /**
+     * Sets the number of view types, dropping all pooled views.
+     * To be called when the adapter changes, see {@link WheelViewAdapter#getViewTypeCount()}.
+     * @param viewTypeCount the count of view types
+     */
+    public void setViewTypeCount(int viewTypeCount) {
+        items = new Pool[Math.max(0, viewTypeCount)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Pool();
+        }
+        emptyItems.trim(0);
+    }
+
     /**
      * Recycles items from specified layout.
      * There are saved only items not included to specified range.
@@ -66,29 +137,41 @@ public class WheelRecycler {
      * @param range the range of current spinnerwheel items
      * @return the new value of first item number
      */
-    public int recycleItems(LinearLayout layout, int firstItem, ItemsRange range) {
-        int index = firstItem;
-        for (int i = 0; i < layout.getChildCount();) {
-            if (!range.contains(index)) {
-                recycleView(layout.getChildAt(i), index);
-                layout.removeViewAt(i);
-                if (i == 0) { // first item
-                    firstItem++;
-                }
-            } else {
-                i++; // go to next item
-            }
-            index++;
+    public int recycleItems(WheelItemsLayout layout, int firstItem, ItemsRange range) {
+        int count = layout.getItemCount();
+        WheelMath.getKeptItems(keptItems, firstItem, count, range);
+        int keptStart = keptItems.getFirst() - firstItem;
+        int keptEnd = keptStart + keptItems.getCount();
+        for (int i = 0; i < keptStart; i++) {
+            recycleView(layout.getItemAt(i));
+        }
+        for (int i = keptEnd; i < count; i++) {
+            recycleView(layout.getItemAt(i));
+        }
+        if (keptEnd < count) {
+            layout.removeItems(keptEnd, count - keptEnd);
+        }
+        if (keptStart > 0) {
+            layout.removeItems(0, keptStart);
         }
-        return firstItem;
+        return keptItems.getFirst();
+    }
+
+    /**
+     * Recycles a single view removed from the items layout
+     * @param view the view to be cached
+     */
+    public void recycleItem(View view) {
+        recycleView(view);
     }
 
     /**
      * Gets item view
-     * @return the cached view
+     * @param viewType the view type of the item, see {@link WheelViewAdapter#getItemViewType(int)}
+     * @return the cached view of the type
      */
-    public View getItem() {
-        return getCachedView(items);
+    public View getItem(int viewType) {
+        return viewType >= 0 && viewType < items.length ? items[viewType].pop() : null;
     }
 
     /**
@@ -96,68 +179,36 @@ public class WheelRecycler {
      * @return the cached empty view
      */
     public View getEmptyItem() {
-        return getCachedView(emptyItems);
+        return emptyItems.pop();
     }
 
     /**
      * Clears all views
      */
     public void clearAll() {
-        if (items != null) {
-            items.clear();
-        }
-        if (emptyItems != null) {
-            emptyItems.clear();
+        for (Pool pool : items) {
+            pool.trim(0);
         }
+        emptyItems.trim(0);
     }
 
     /**
-     * Adds view to specified cache. Creates a cache list if it is null.
+     * Adds view to cache. Determines the pool by the view type the view was bound with,
+     * views without a type are empty ones.
      * @param view the view to be cached
-     * @param cache the cache list
-     * @return the cache list
      */
-    private List<View> addView(View view, List<View> cache) {
-        if (cache == null) {
-            cache = new LinkedList<View>();
-        }
-
-        cache.add(view);
-        return cache;
-    }
-
-    /**
-     * Adds view to cache. Determines view type (item view or empty one) by index.
-     * @param view the view to be cached
-     * @param index the index of view
-     */
-    private void recycleView(View view, int index) {
-        int count = wheel.getViewAdapter().getItemsCount();
-
-        if ((index < 0 || index >= count) && !wheel.isCyclic()) {
-            // empty view
-            emptyItems = addView(view, emptyItems);
-        } else {
-            while (index < 0) {
-                index = count + index;
-            }
-            index %= count;
-            items = addView(view, items);
+    private void recycleView(View view) {
+        Integer viewType = (Integer) view.getTag(R.id.wheel_item_view_type);
+        if (viewType == null) {
+            emptyItems.push(view, getPoolLimit());
+        } else if (viewType >= 0 && viewType < items.length) {
+            items[viewType].push(view, getPoolLimit());
         }
+        // views of types the adapter does not declare are dropped
     }
 
-    /**
-     * Gets view from specified cache.
-     * @param cache the cache
-     * @return the first view from cache.
-     */
-    private View getCachedView(List<View> cache) {
-        if (cache != null && cache.size() > 0) {
-            View view = cache.get(0);
-            cache.remove(0);
-            return view;
-        }
-        return null;
+    private int getPoolLimit() {
+        return maxPoolSize > 0 ? maxPoolSize : wheel.getVisibleItems() + DEF_EXTRA_POOL_SIZE;
     }
 
 }
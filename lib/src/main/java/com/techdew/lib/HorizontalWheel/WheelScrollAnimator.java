@@ -0,0 +1,225 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import android.content.Context;
+import android.view.ViewConfiguration;
+import android.view.animation.Interpolator;
+
+/**
+ * One-dimensional counterpart of {@link android.widget.Scroller} computing positions at
+ * given times instead of reading the animation clock, so scrolls can be stepped at exact
+ * timestamps. Flings follow the platform Scroller deceleration curve.
+ */
+public final class WheelScrollAnimator {
+
+    private static final int MODE_SCROLL = 0;
+    private static final int MODE_FLING = 1;
+
+    // Fling deceleration curve, as computed by android.widget.Scroller
+    private static final float DECELERATION_RATE = (float) (Math.log(0.78) / Math.log(0.9));
+    private static final float INFLEXION = 0.35f;
+    private static final float START_TENSION = 0.5f;
+    private static final float END_TENSION = 1.0f;
+    private static final float P1 = START_TENSION * INFLEXION;
+    private static final float P2 = 1.0f - END_TENSION * (1.0f - INFLEXION);
+    private static final float GRAVITY_EARTH = 9.80665f;
+    private static final int NB_SAMPLES = 100;
+    private static final float[] SPLINE_POSITION = new float[NB_SAMPLES + 1];
+
+    // Default interpolator of scrolls
+    private static final float VISCOUS_FLUID_SCALE = 8.0f;
+    private static final float VISCOUS_FLUID_NORMALIZE = 1.0f / viscousFluid(1.0f);
+
+    static {
+        float xMin = 0.0f;
+        for (int i = 0; i < NB_SAMPLES; i++) {
+            final float alpha = (float) i / NB_SAMPLES;
+            float xMax = 1.0f;
+            float x, tx, coef;
+            while (true) {
+                x = xMin + (xMax - xMin) / 2.0f;
+                coef = 3.0f * x * (1.0f - x);
+                tx = coef * ((1.0f - x) * P1 + x * P2) + x * x * x;
+                if (Math.abs(tx - alpha) < 1E-5) break;
+                if (tx > alpha) xMax = x;
+                else xMin = x;
+            }
+            SPLINE_POSITION[i] = coef * ((1.0f - x) * START_TENSION + x) + x * x * x;
+        }
+        SPLINE_POSITION[NB_SAMPLES] = 1.0f;
+    }
+
+    private final float physicalCoeff;
+    private float friction = ViewConfiguration.getScrollFriction();
+    private Interpolator interpolator;
+
+    private int mode;
+    private boolean finished = true;
+    private int startPosition;
+    private int finalPosition;
+    private int currPosition;
+    private long startTime;
+    private int duration;
+
+    /**
+     * Constructor
+     * @param context the current context
+     */
+    public WheelScrollAnimator(Context context) {
+        float ppi = context.getResources().getDisplayMetrics().density * 160.0f;
+        physicalCoeff = GRAVITY_EARTH * 39.37f * ppi * 0.84f;
+    }
+
+    /**
+     * Sets the interpolator of scrolls
+     * @param interpolator the interpolator, null for the default one
+     */
+    public void setInterpolator(Interpolator interpolator) {
+        this.interpolator = interpolator;
+    }
+
+    /**
+     * Sets the friction of flings
+     * @param friction the amount of friction, see {@link ViewConfiguration#getScrollFriction()}
+     */
+    public void setFriction(float friction) {
+        this.friction = friction;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void forceFinished(boolean finished) {
+        this.finished = finished;
+    }
+
+    public int getCurrPosition() {
+        return currPosition;
+    }
+
+    public int getFinalPosition() {
+        return finalPosition;
+    }
+
+    /**
+     * Sets the position the animation ends at, keeping its duration
+     * @param position the new final position
+     */
+    public void setFinalPosition(int position) {
+        finalPosition = position;
+        finished = false;
+    }
+
+    /**
+     * Starts scrolling by the distance
+     * @param now the current time in milliseconds
+     * @param start the starting position
+     * @param distance the distance to scroll
+     * @param duration the duration of the scroll in milliseconds
+     */
+    public void startScroll(long now, int start, int distance, int duration) {
+        mode = MODE_SCROLL;
+        finished = false;
+        startTime = now;
+        this.duration = duration;
+        startPosition = start;
+        currPosition = start;
+        finalPosition = start + distance;
+    }
+
+    /**
+     * Starts a fling decelerating until it stops
+     * @param now the current time in milliseconds
+     * @param start the starting position
+     * @param velocity the initial velocity in pixels per second
+     */
+    public void fling(long now, int start, int velocity) {
+        mode = MODE_FLING;
+        finished = false;
+        startTime = now;
+        startPosition = start;
+        currPosition = start;
+        duration = 0;
+        finalPosition = start;
+        if (velocity != 0) {
+            double l = Math.log(INFLEXION * Math.abs(velocity) / (friction * physicalCoeff));
+            duration = (int) (1000.0 * Math.exp(l / (DECELERATION_RATE - 1.0)));
+            double distance = friction * physicalCoeff * Math.exp(DECELERATION_RATE / (DECELERATION_RATE - 1.0) * l);
+            finalPosition = start + (int) Math.round(velocity > 0 ? distance : -distance);
+        }
+    }
+
+    /**
+     * Computes the position at the given time
+     * @param now the current time in milliseconds
+     * @return true if the animation is not yet finished
+     */
+    public boolean computeScrollOffset(long now) {
+        if (finished) {
+            return false;
+        }
+
+        long timePassed = now - startTime;
+        if (timePassed >= duration) {
+            currPosition = finalPosition;
+            finished = true;
+            return true;
+        }
+
+        float t = (float) timePassed / duration;
+        float coef;
+        if (mode == MODE_SCROLL) {
+            coef = interpolator != null ? interpolator.getInterpolation(t) : VISCOUS_FLUID_NORMALIZE * viscousFluid(t);
+        } else {
+            int index = (int) (NB_SAMPLES * t);
+            coef = 1.0f;
+            if (index < NB_SAMPLES) {
+                float tInf = (float) index / NB_SAMPLES;
+                float dInf = SPLINE_POSITION[index];
+                float dSup = SPLINE_POSITION[index + 1];
+                coef = dInf + (t - tInf) * (dSup - dInf) * NB_SAMPLES;
+            }
+        }
+        currPosition = startPosition + Math.round(coef * (finalPosition - startPosition));
+        if (mode == MODE_FLING && currPosition == finalPosition) {
+            finished = true;
+        }
+        return true;
+    }
+
+    private static float viscousFluid(float x) {
+        x *= VISCOUS_FLUID_SCALE;
+        if (x < 1.0f) {
+            x -= (1.0f - (float) Math.exp(-x));
+        } else {
+            float start = 0.36787944117f; // 1/e == exp(-1)
+            x = 1.0f - (float) Math.exp(1.0f - x);
+            x = start + x * (1.0f - start);
+        }
+        return x;
+    }
+}
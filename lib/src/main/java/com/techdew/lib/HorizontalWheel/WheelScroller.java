@@ -25,14 +25,12 @@
 package com.techdew.lib.HorizontalWheel;
 
 import android.content.Context;
-import android.os.Build;
-import android.os.Handler;
-import android.os.Message;
+import android.view.Choreographer;
 import android.view.GestureDetector;
 import android.view.GestureDetector.SimpleOnGestureListener;
 import android.view.MotionEvent;
+import android.view.animation.AnimationUtils;
 import android.view.animation.Interpolator;
-import android.widget.Scroller;
 
 /**
  * Scroller class handles scrolling events and updates the spinnerwheel
@@ -45,6 +43,13 @@ public abstract class WheelScroller {
 
         void onFling(int direction);
 
+        /**
+         * Fling callback called when a fling starts, to make it end at a chosen position
+         * @param distance the distance the fling would scroll
+         * @return the distance the fling is to scroll
+         */
+        int onFlingLanding(int distance);
+
         /**
          * Scrolling callback called when scrolling is performed.
          * @param distance the distance to scroll
@@ -77,6 +82,70 @@ public abstract class WheelScroller {
         void onJustify();
     }
 
+    /**
+     * Time source and frame scheduler driving scroll animations.
+     * <p>The default one follows the display frames; tests may provide one that
+     * is stepped by hand, so animations run at exact timestamps.
+     */
+    public interface FrameClock {
+
+        /**
+         * Gets the time animation steps are computed at
+         * @return the current time in milliseconds
+         */
+        long now();
+
+        /**
+         * Schedules an animation step to run once, on the next frame
+         * @param step the step to run
+         */
+        void postFrame(Runnable step);
+
+        /**
+         * Cancels a scheduled animation step
+         * @param step the step to cancel
+         */
+        void removeFrame(Runnable step);
+    }
+
+    /**
+     * Frame clock following the display frames
+     */
+    private static final class ChoreographerFrameClock implements FrameClock, Choreographer.FrameCallback {
+
+        private final Choreographer choreographer = Choreographer.getInstance();
+        private Runnable step;
+
+        @Override
+        public long now() {
+            return AnimationUtils.currentAnimationTimeMillis();
+        }
+
+        @Override
+        public void postFrame(Runnable step) {
+            this.step = step;
+            choreographer.removeFrameCallback(this);
+            choreographer.postFrameCallback(this);
+        }
+
+        @Override
+        public void removeFrame(Runnable step) {
+            if (this.step == step) {
+                this.step = null;
+                choreographer.removeFrameCallback(this);
+            }
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            Runnable step = this.step;
+            this.step = null;
+            if (step != null) {
+                step.run();
+            }
+        }
+    }
+
     /** Scrolling duration */
     private static final int SCROLLING_DURATION = 400;
 
@@ -86,16 +155,16 @@ public abstract class WheelScroller {
     // Listener
     private ScrollingListener listener;
 
-    // Context
-    private Context context;
-
     // Scrolling
     private GestureDetector gestureDetector;
-    protected Scroller scroller;
+    protected WheelScrollAnimator scroller;
+    private FrameClock clock = new ChoreographerFrameClock();
     private   int             lastScrollPosition;
     private   float           lastTouchedPosition;
     private   boolean         isScrollingPerformed;
-    public static final int SCROLL_DIRECTION_UP   = 1;
+    // whether the running fling ends where the listener has chosen, so it needs no justifying
+    private   boolean         isLandingPredicted;
+    public static final int SCROLL_DIRECTION_UP   = WheelMath.DIRECTION_NEXT;
     public static final int SCROLL_DIRECTION_DOWN = -1;
 
     /**
@@ -115,6 +184,9 @@ public abstract class WheelScroller {
             public boolean onFling(MotionEvent e1, MotionEvent e2, float velocityX, float velocityY) {
                 lastScrollPosition = 0;
                 scrollerFling(lastScrollPosition, (int) velocityX, (int) velocityY);
+                int distance = WheelScroller.this.listener.onFlingLanding(lastScrollPosition - getFinalScrollerPosition());
+                setFinalScrollerPosition(lastScrollPosition - distance);
+                isLandingPredicted = true;
                 setNextMessage(MESSAGE_SCROLL);
                 WheelScroller.this.listener.onFling(
                   velocityY < 0 ? SCROLL_DIRECTION_UP : SCROLL_DIRECTION_DOWN);
@@ -125,10 +197,9 @@ public abstract class WheelScroller {
         });
         gestureDetector.setIsLongpressEnabled(false);
 
-        scroller = new Scroller(context);
+        scroller = new WheelScrollAnimator(context);
 
         this.listener = listener;
-        this.context = context;
     }
 
     /**
@@ -137,7 +208,29 @@ public abstract class WheelScroller {
      */
     public void setInterpolator(Interpolator interpolator) {
         scroller.forceFinished(true);
-        scroller = new Scroller(context, interpolator);
+        scroller.setInterpolator(interpolator);
+    }
+
+    /**
+     * Sets the time source and frame scheduler of scroll animations.
+     * A pending animation step is moved to the new clock.
+     * @param clock the frame clock
+     */
+    public void setFrameClock(FrameClock clock) {
+        int message = pendingMessage;
+        clearMessages();
+        this.clock = clock;
+        if (message != MESSAGE_NONE) {
+            postMessage(message);
+        }
+    }
+
+    /**
+     * Gets the current time of the frame clock
+     * @return the time in milliseconds
+     */
+    protected long now() {
+        return clock.now();
     }
 
     /**
@@ -147,6 +240,7 @@ public abstract class WheelScroller {
      */
     public void scroll(int distance, int time) {
         scroller.forceFinished(true);
+        isLandingPredicted = false;
         lastScrollPosition = 0;
         scrollerStartScroll(distance, time != 0 ? time : SCROLLING_DURATION);
         setNextMessage(MESSAGE_SCROLL);
@@ -161,13 +255,11 @@ public abstract class WheelScroller {
     }
 
     /**
-     * Set the friction of the scroller. This function is available over Android 3.0 (API Level 11).
+     * Set the friction of the scroller
      * @param friction the amount of friction
      */
     public void setFriction(float friction) {
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-            scroller.setFriction(friction);
-        }
+        scroller.setFriction(friction);
     }
 
     /**
@@ -181,6 +273,7 @@ public abstract class WheelScroller {
             case MotionEvent.ACTION_DOWN:
                 lastTouchedPosition = getMotionEventPosition(event);
                 scroller.forceFinished(true);
+                isLandingPredicted = false;
                 clearMessages();
                 listener.onTouch();
                 break;
@@ -212,6 +305,13 @@ public abstract class WheelScroller {
     // Messages
     private final int MESSAGE_SCROLL  = 0;
     private final int MESSAGE_JUSTIFY = 1;
+    private final int MESSAGE_NONE    = -1;
+
+    // Message to be handled on the next display frame
+    private int pendingMessage = MESSAGE_NONE;
+
+    // Number of animation steps computed so far
+    private long animationTicks;
 
     /**
      * Set next message to queue. Clears queue before.
@@ -220,44 +320,88 @@ public abstract class WheelScroller {
      */
     private void setNextMessage(int message) {
         clearMessages();
-        animationHandler.sendEmptyMessage(message);
+        postMessage(message);
+    }
+
+    /**
+     * Schedules the message to be handled on the next display frame
+     *
+     * @param message the message to post
+     */
+    private void postMessage(int message) {
+        pendingMessage = message;
+        clock.postFrame(animationStep);
     }
 
     /**
      * Clears messages from queue
      */
     private void clearMessages() {
-        animationHandler.removeMessages(MESSAGE_SCROLL);
-        animationHandler.removeMessages(MESSAGE_JUSTIFY);
+        if (pendingMessage != MESSAGE_NONE) {
+            clock.removeFrame(animationStep);
+            pendingMessage = MESSAGE_NONE;
+        }
     }
 
-    // animation handler
-    private Handler animationHandler = new Handler() {
-        public void handleMessage(Message msg) {
-            scroller.computeScrollOffset();
-            int currPosition = getCurrentScrollerPosition();
-            int delta = lastScrollPosition - currPosition;
-            lastScrollPosition = currPosition;
-            if (delta != 0) {
-                listener.onScroll(delta);
-            }
+    /**
+     * Returns the number of animation steps computed since the scroller was created.
+     * Fling and justify compute exactly one step per display frame.
+     *
+     * @return the count of animation steps
+     */
+    public long getAnimationTicks() {
+        return animationTicks;
+    }
 
-            // scrolling is not finished when it comes to final Y
-            // so, finish it manually 
-            if (Math.abs(currPosition - getFinalScrollerPosition()) < MIN_DELTA_FOR_SCROLLING) {
-                // currPosition = getFinalScrollerPosition();
-                scroller.forceFinished(true);
-            }
-            if (!scroller.isFinished()) {
-                animationHandler.sendEmptyMessage(msg.what);
-            } else if (msg.what == MESSAGE_SCROLL) {
-                justify();
-            } else {
-                finishScrolling();
+    // animation step, one scroll offset is computed per frame
+    private final Runnable animationStep = new Runnable() {
+        public void run() {
+            WheelTrace.beginSection(WheelTrace.SCROLLER_TICK);
+            try {
+                onAnimationFrame();
+            } finally {
+                WheelTrace.endSection();
             }
         }
     };
 
+    /**
+     * Moves the scroll by one display frame
+     */
+    private void onAnimationFrame() {
+        final int message = pendingMessage;
+        pendingMessage = MESSAGE_NONE;
+        animationTicks++;
+
+        scroller.computeScrollOffset(clock.now());
+        int currPosition = getCurrentScrollerPosition();
+        int delta = lastScrollPosition - currPosition;
+        lastScrollPosition = currPosition;
+        if (delta != 0) {
+            listener.onScroll(delta);
+        }
+
+        // scrolling is not finished when it comes to final Y
+        // so, finish it manually 
+        if (Math.abs(currPosition - getFinalScrollerPosition()) < MIN_DELTA_FOR_SCROLLING) {
+            // currPosition = getFinalScrollerPosition();
+            scroller.forceFinished(true);
+        }
+        if (pendingMessage != MESSAGE_NONE) {
+            // listener has already scheduled the next step
+            return;
+        }
+        if (!scroller.isFinished()) {
+            postMessage(message);
+        } else if (message == MESSAGE_SCROLL
+                && !(isLandingPredicted && currPosition == getFinalScrollerPosition())) {
+            justify();
+        } else {
+            // a fling stopped where it was predicted to land is already justified
+            finishScrolling();
+        }
+    }
+
     /**
      * Justifies spinnerwheel
      */
@@ -280,6 +424,7 @@ public abstract class WheelScroller {
      * Finishes scrolling
      */
     protected void finishScrolling() {
+        isLandingPredicted = false;
         if (isScrollingPerformed) {
             listener.onFinished();
             isScrollingPerformed = false;
@@ -290,6 +435,14 @@ public abstract class WheelScroller {
 
     protected abstract int getFinalScrollerPosition();
 
+    /**
+     * Moves the end of the running fling, e.g. to land it on an item
+     * @param position the new final position of the scroller
+     */
+    protected void setFinalScrollerPosition(int position) {
+        scroller.setFinalPosition(position);
+    }
+
     protected abstract float getMotionEventPosition(MotionEvent event);
 
     protected abstract void scrollerStartScroll(int distance, int time);
@@ -0,0 +1,266 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.text.BoringLayout;
+import android.text.Layout;
+import android.text.StaticLayout;
+import android.text.TextPaint;
+
+/**
+ * Draws text items of the spinnerwheel directly, without item views.
+ * Text layouts are kept by wheel position, so scrolling only re-creates
+ * layouts for items entering the wheel.
+ */
+public class WheelTextRenderer {
+
+    /** Items are laid out from left to right */
+    public static final int HORIZONTAL = 0;
+
+    /** Items are laid out from top to bottom */
+    public static final int VERTICAL = 1;
+
+    private static final int MIN_CAPACITY = 8;
+
+    private final int orientation;
+
+    // Paints for regular and selected items
+    private final TextPaint paint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint selectedPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint.FontMetricsInt fontMetrics = new Paint.FontMetricsInt();
+    private final BoringLayout.Metrics boringMetrics = new BoringLayout.Metrics();
+
+    // Cached layouts, the slot of an item is its wheel position modulo the capacity.
+    // Positions of a range are consecutive, so they never share a slot even where
+    // a cyclic range wraps from the last item to the first one.
+    private int[] indexes = new int[0];
+    private boolean[] selected = new boolean[0];
+    private Layout[] layouts = new Layout[0];
+
+    private AbstractWheelTextAdapter adapter;
+
+    /**
+     * Constructor
+     * @param orientation {@link #HORIZONTAL} or {@link #VERTICAL}
+     */
+    public WheelTextRenderer(int orientation) {
+        this.orientation = orientation;
+    }
+
+    /**
+     * Sets the adapter providing texts and text settings.
+     * @param adapter the adapter, or null to release the current one
+     */
+    public void setAdapter(AbstractWheelTextAdapter adapter) {
+        this.adapter = adapter;
+        invalidate();
+    }
+
+    /**
+     * Drops all cached layouts and re-reads text settings from the adapter.
+     * To be called when adapter data has changed.
+     */
+    public void invalidate() {
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = -1;
+        }
+        if (adapter != null) {
+            adapter.configureTextPaint(paint, false);
+            adapter.configureTextPaint(selectedPaint, true);
+        }
+    }
+
+    /**
+     * Drops the cached layout of a single item.
+     * @param index the item index
+     */
+    public void invalidateItem(int index) {
+        for (int slot = 0; slot < indexes.length; slot++) {
+            if (indexes[slot] == index) {
+                indexes[slot] = -1;
+            }
+        }
+    }
+
+    /**
+     * Drops cached layouts of items from specified index on, which have moved
+     * after items were inserted or removed.
+     * @param start the index of the first item to drop
+     */
+    public void invalidateItemsFrom(int start) {
+        for (int slot = 0; slot < indexes.length; slot++) {
+            if (indexes[slot] >= start) {
+                indexes[slot] = -1;
+            }
+        }
+    }
+
+    /**
+     * Gets the height of a line of item text
+     * @return the line height
+     */
+    public int getLineHeight() {
+        int normal = paint.getFontMetricsInt(fontMetrics);
+        int bold = selectedPaint.getFontMetricsInt(fontMetrics);
+        return Math.max(normal, bold);
+    }
+
+    /**
+     * Gets the width of the text of specified item
+     * @param index the item index
+     * @return the text width
+     */
+    public int getTextWidth(int index) {
+        if (adapter == null || index < 0 || index >= adapter.getItemsCount()) {
+            return 0;
+        }
+        CharSequence text = getText(index);
+        return (int) Math.ceil(Math.max(
+                Layout.getDesiredWidth(text, paint), Layout.getDesiredWidth(text, selectedPaint)));
+    }
+
+    /**
+     * Gets the size of the item text along the scrolling axis
+     * @param index the item index
+     * @return the text size along the scrolling axis
+     */
+    public int getMainSize(int index) {
+        return orientation == HORIZONTAL ? getTextWidth(index) : getLineHeight();
+    }
+
+    /**
+     * Gets the size of the item text across the scrolling axis
+     * @param index the item index
+     * @return the text size across the scrolling axis
+     */
+    public int getCrossSize(int index) {
+        return orientation == HORIZONTAL ? getLineHeight() : getTextWidth(index);
+    }
+
+    /**
+     * Draws items of specified range, centering the current item in the wheel.
+     *
+     * @param canvas the canvas for drawing
+     * @param wheel the spinnerwheel
+     * @param range the range of items to draw
+     * @param itemDimension the item size along the scrolling axis
+     * @param padding the padding across the scrolling axis
+     */
+    public void draw(Canvas canvas, AbstractWheel wheel, ItemsRange range, int itemDimension, int padding) {
+        if (adapter == null || itemDimension <= 0) {
+            return;
+        }
+        int count = wheel.mItemsCount;
+        if (count == 0) {
+            return;
+        }
+        ensureCapacity(range.getCount());
+
+        boolean horizontal = orientation == HORIZONTAL;
+        int width = wheel.getWidth();
+        int height = wheel.getHeight();
+        int layoutWidth = Math.max(0, horizontal ? itemDimension : width - 2 * padding);
+        int center = (horizontal ? width : height) / 2 + wheel.mScrollingOffset;
+        int current = wheel.mCurrentItemIdx;
+        int currentPosition = wheel.mCurrentItemPosition;
+        boolean cyclic = wheel.isCyclic();
+
+        for (int i = range.getFirst(); i <= range.getLast(); i++) {
+            if (!cyclic && (i < 0 || i >= count)) {
+                continue; // empty items are not drawn
+            }
+            int index = wheel.normalizeIndex(i);
+            Layout layout = getLayout(i, index, index == current, layoutWidth);
+            int position = center + (i - currentPosition) * itemDimension;
+
+            canvas.save();
+            if (horizontal) {
+                canvas.translate(position - itemDimension / 2, (height - layout.getHeight()) / 2);
+            } else {
+                canvas.translate(padding, position - layout.getHeight() / 2);
+            }
+            layout.draw(canvas);
+            canvas.restore();
+        }
+    }
+
+    /**
+     * Gets the cached layout for specified item, creating it if necessary
+     */
+    private Layout getLayout(int position, int index, boolean isSelectedItem, int width) {
+        int slot = position & (indexes.length - 1);
+        Layout layout = layouts[slot];
+        if (indexes[slot] == index && selected[slot] == isSelectedItem
+                && layout != null && layout.getWidth() == width) {
+            return layout;
+        }
+
+        TextPaint textPaint = isSelectedItem ? selectedPaint : paint;
+        CharSequence text = getText(index);
+        BoringLayout.Metrics boring = BoringLayout.isBoring(text, textPaint, boringMetrics);
+        if (boring != null) {
+            if (layout instanceof BoringLayout) {
+                layout = ((BoringLayout) layout).replaceOrMake(text, textPaint, width,
+                        Layout.Alignment.ALIGN_CENTER, 1f, 0f, boring, false);
+            } else {
+                layout = BoringLayout.make(text, textPaint, width,
+                        Layout.Alignment.ALIGN_CENTER, 1f, 0f, boring, false);
+            }
+        } else {
+            layout = new StaticLayout(text, textPaint, width, Layout.Alignment.ALIGN_CENTER, 1f, 0f, false);
+        }
+
+        indexes[slot] = index;
+        selected[slot] = isSelectedItem;
+        layouts[slot] = layout;
+        return layout;
+    }
+
+    private CharSequence getText(int index) {
+        CharSequence text = adapter.getItemText(index);
+        return text != null ? text : "";
+    }
+
+    /**
+     * Grows the layouts cache, so every item of the range gets its own slot
+     */
+    private void ensureCapacity(int itemsCount) {
+        if (itemsCount <= indexes.length) {
+            return;
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity < itemsCount) {
+            capacity <<= 1;
+        }
+        indexes = new int[capacity];
+        selected = new boolean[capacity];
+        layouts = new Layout[capacity];
+        for (int i = 0; i < capacity; i++) {
+            indexes[i] = -1;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * android-spinnerwheel
+ * https://github.com/ai212983/android-spinnerwheel
+ *
+ * based on
+ *
+ * Android Wheel Control.
+ * https://code.google.com/p/android-wheel/
+ *
+ * Copyright 2011 Yuri Kanivets
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.techdew.lib.HorizontalWheel;
+
+import android.os.Build;
+import android.os.Trace;
+
+/**
+ * Trace sections around the spinnerwheel hot paths, shown in system traces once
+ * enabled with {@link AbstractWheel#setTracingEnabled(boolean)}.
+ */
+final class WheelTrace {
+
+    static final String REBUILD_ITEMS = "Wheel.rebuildItems";
+    static final String MEASURE_LAYOUT = "Wheel.measureLayout";
+    static final String DO_ITEMS_LAYOUT = "Wheel.doItemsLayout";
+    static final String DRAW_ITEMS = "Wheel.drawItems";
+    static final String BIND_ITEM = "Wheel.bindItem";
+    static final String SCROLLER_TICK = "Wheel.scrollerTick";
+
+    private static final boolean SUPPORTED = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+
+    static boolean enabled;
+
+    private WheelTrace() {
+    }
+
+    static void beginSection(String name) {
+        if (enabled && SUPPORTED) {
+            Trace.beginSection(name);
+        }
+    }
+
+    static void endSection() {
+        if (enabled && SUPPORTED) {
+            Trace.endSection();
+        }
+    }
+}
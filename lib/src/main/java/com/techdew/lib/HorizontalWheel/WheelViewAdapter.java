@@ -49,6 +49,21 @@ public interface WheelViewAdapter {
      */
     public View getItem(int index, View convertView, ViewGroup parent, int currentItemIdx);
 
+    /**
+     * Gets the type of view created by {@link #getItem} for the specified item.
+     * Views are only reused for items of the same type.
+     *
+     * @param index the item index
+     * @return the view type, from 0 to {@link #getViewTypeCount()} - 1
+     */
+    public int getItemViewType(int index);
+
+    /**
+     * Gets the number of view types created by {@link #getItem}
+     * @return the count of view types
+     */
+    public int getViewTypeCount();
+
     /**
      * Get a View that displays an empty spinnerwheel item placed before the first or after
      * the last spinnerwheel item.
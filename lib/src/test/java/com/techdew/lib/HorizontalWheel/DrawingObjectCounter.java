@@ -0,0 +1,73 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.LinearGradient;
+import android.graphics.Shader;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+import org.robolectric.shadows.ShadowBitmap;
+import org.robolectric.shadows.ShadowCanvas;
+import org.robolectric.shadows.ShadowLinearGradient;
+
+/**
+ * Counts canvases, bitmaps and shaders created, through shadows registered for all tests
+ * in robolectric.properties. Tests configured with other shadows would run in a sandbox
+ * of their own, which Robolectric 3.3 does not set up reliably in the same JVM.
+ */
+final class DrawingObjectCounter {
+
+    private static int count;
+
+    private DrawingObjectCounter() {
+    }
+
+    static void reset() {
+        count = 0;
+    }
+
+    /**
+     * Gets drawing objects created since the last reset
+     * @return the number of canvases, bitmaps and shaders
+     */
+    static int getCount() {
+        return count;
+    }
+
+    @Implements(Canvas.class)
+    public static class CountingCanvas extends ShadowCanvas {
+
+        @Implementation
+        public void __constructor__() {
+            count++;
+        }
+
+        @Override
+        @Implementation
+        public void __constructor__(Bitmap bitmap) {
+            count++;
+            super.__constructor__(bitmap);
+        }
+    }
+
+    @Implements(Bitmap.class)
+    public static class CountingBitmap extends ShadowBitmap {
+
+        @Implementation
+        public static Bitmap createBitmap(int width, int height, Bitmap.Config config) {
+            count++;
+            return ShadowBitmap.createBitmap(width, height, config);
+        }
+    }
+
+    @Implements(LinearGradient.class)
+    public static class CountingLinearGradient extends ShadowLinearGradient {
+
+        @Implementation
+        public void __constructor__(float x0, float y0, float x1, float y1,
+                                    int[] colors, float[] positions, Shader.TileMode tile) {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.MotionEvent;
+import android.view.View;
+
+import com.techdew.lib.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Scrolls and selects items of huge adapters, checking the work done stays proportional
+ * to the items shown, not to the adapter size. Timings are measured by the JMH suite
+ * of the core module.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class LargeAdapterTest {
+
+    private static final int WIDTH = 480;
+    private static final int HEIGHT = 120;
+
+    private static final int ITEMS_COUNT = 10000000;
+    private static final int SELECTIONS = 500;
+
+    @Test
+    public void scrollAndSelectNonCyclic() throws Exception {
+        HorizontalView wheel = run(false);
+        assertEquals(0, wheel.getCurrentItem());
+    }
+
+    @Test
+    public void scrollAndSelectCyclic() throws Exception {
+        HorizontalView wheel = run(true);
+        assertTrue(wheel.getCurrentItem() > ITEMS_COUNT - 100);
+    }
+
+    @Test
+    public void cyclicWheelWrapsAtIntegerLimit() throws Exception {
+        // Integer.MAX_VALUE items, see NumericWheelAdapterTest
+        NumericWheelAdapter adapter = new NumericWheelAdapter(RuntimeEnvironment.application,
+                Integer.MIN_VALUE + 2, Integer.MAX_VALUE, 2);
+        HorizontalView wheel = createWheel(adapter, true);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+
+        wheel.setCurrentItem(adapter.getItemsCount() - 1);
+        wheel.onDraw(canvas);
+        assertTrue(wheel.mItemsRange.getFirst() < wheel.mItemsRange.getLast());
+
+        drag(wheel, canvas, -7);
+        assertTrue(wheel.getCurrentItem() < 100);
+    }
+
+    private HorizontalView run(boolean cyclic) {
+        NumericWheelAdapter adapter = new NumericWheelAdapter(RuntimeEnvironment.application, 0, ITEMS_COUNT - 1);
+        HorizontalView wheel = createWheel(adapter, cyclic);
+        wheel.setMetricsEnabled(true);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.setCurrentItem(ITEMS_COUNT / 2);
+        wheel.onDraw(canvas);
+        // items shown away from the ends of a non-cyclic wheel
+        int shown = wheel.mItemsRange.getCount();
+        WheelMetrics metrics = new WheelMetrics();
+        wheel.getMetrics(metrics);
+        int inflations = metrics.inflations;
+
+        wheel.resetMetrics();
+        for (int i = 0; i < SELECTIONS; i++) {
+            int index = (int) (i * 7919L * 1237 % ITEMS_COUNT);
+            wheel.setCurrentItem(index);
+            wheel.onDraw(canvas);
+            assertEquals(index, wheel.getCurrentItem());
+        }
+        wheel.getMetrics(metrics);
+        // jumps rebind the items shown, with views of the recycler
+        assertTrue("binds " + metrics.binds, metrics.binds <= SELECTIONS * shown);
+        assertEquals(0, metrics.inflations);
+
+        wheel.setCurrentItem(0);
+        wheel.onDraw(canvas);
+        wheel.resetMetrics();
+        int frames = drag(wheel, canvas, 7);
+        wheel.getMetrics(metrics);
+        int scrolled = Math.abs(wheel.getCurrentItem() - (cyclic ? ITEMS_COUNT : 0));
+        // every item passed binds the item entering the wheel, the previous and the new current items
+        assertTrue("binds " + metrics.binds, metrics.binds <= 3 * scrolled + shown);
+        // a scrolling offset shows one more item
+        assertTrue("inflations " + metrics.inflations, metrics.inflations <= inflations + 1);
+        assertEquals(frames, metrics.frames);
+        return wheel;
+    }
+
+    private static HorizontalView createWheel(WheelViewAdapter adapter, boolean cyclic) {
+        HorizontalView wheel = new HorizontalView(RuntimeEnvironment.application);
+        wheel.setCyclic(cyclic);
+        wheel.setViewAdapter(adapter);
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+        return wheel;
+    }
+
+    /**
+     * Drags the wheel across its width, drawing every move
+     * @return the number of frames drawn
+     */
+    private static int drag(AbstractWheelView wheel, Canvas canvas, int step) {
+        int x = step > 0 ? 0 : WIDTH;
+        touch(wheel, MotionEvent.ACTION_DOWN, 0, x);
+        int frames = 0;
+        for (; x >= 0 && x <= WIDTH; x += step) {
+            touch(wheel, MotionEvent.ACTION_MOVE, ++frames * 16, x);
+            wheel.onDraw(canvas);
+        }
+        return frames;
+    }
+
+    private static void touch(View view, int action, long eventTime, float x) {
+        MotionEvent event = MotionEvent.obtain(0, eventTime, action, x, HEIGHT / 2, 0);
+        view.onTouchEvent(event);
+        event.recycle();
+    }
+}
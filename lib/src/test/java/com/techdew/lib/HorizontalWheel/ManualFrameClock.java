@@ -0,0 +1,73 @@
+package com.techdew.lib.HorizontalWheel;
+
+/**
+ * Frame clock stepped by hand, running scroll animations at exact timestamps.
+ */
+final class ManualFrameClock implements WheelScroller.FrameClock {
+
+    // Frames run by runFrames at most, in case an animation never ends
+    private static final int MAX_FRAMES = 10000;
+
+    private long now;
+    private Runnable step;
+
+    @Override
+    public long now() {
+        return now;
+    }
+
+    @Override
+    public void postFrame(Runnable step) {
+        this.step = step;
+    }
+
+    @Override
+    public void removeFrame(Runnable step) {
+        if (this.step == step) {
+            this.step = null;
+        }
+    }
+
+    /**
+     * Sets the current time, e.g. before dispatching touch events
+     * @param time the time in milliseconds
+     */
+    void setTime(long time) {
+        now = time;
+    }
+
+    boolean hasFrame() {
+        return step != null;
+    }
+
+    /**
+     * Runs a frame at the given time
+     * @param time the frame time in milliseconds
+     * @return true if an animation step ran
+     */
+    boolean frame(long time) {
+        now = time;
+        Runnable step = this.step;
+        this.step = null;
+        if (step == null) {
+            return false;
+        }
+        step.run();
+        return true;
+    }
+
+    /**
+     * Runs frames at the given refresh rate until no animation step is scheduled
+     * @param hz the refresh rate
+     * @return the number of frames run
+     */
+    int runFrames(int hz) {
+        long start = now;
+        int frames = 0;
+        while (step != null && frames < MAX_FRAMES) {
+            frames++;
+            frame(start + (frames * 1000L + hz / 2) / hz);
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,72 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.widget.LinearLayout;
+import android.widget.TextView;
+
+import com.techdew.lib.BuildConfig;
+import com.techdew.lib.R;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks values and item texts of the numeric adapter.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class NumericWheelAdapterTest {
+
+    @Test
+    public void valuesFollowStep() throws Exception {
+        NumericWheelAdapter adapter = new NumericWheelAdapter(RuntimeEnvironment.application, 0, 100000, 25);
+
+        assertEquals(4001, adapter.getItemsCount());
+        assertEquals(100000, adapter.getValue(4000));
+        assertEquals(40, adapter.getItemIndex(1010));
+        assertEquals(-1, adapter.getItemIndex(100001));
+        assertEquals("1000", adapter.getItemText(40).toString());
+    }
+
+    @Test
+    public void hugeRangesKeepNoItems() throws Exception {
+        // the largest step 2 range, Integer.MIN_VALUE + 2 + (Integer.MAX_VALUE - 1) * 2 == Integer.MAX_VALUE - 1
+        NumericWheelAdapter adapter = new NumericWheelAdapter(RuntimeEnvironment.application,
+                Integer.MIN_VALUE + 2, Integer.MAX_VALUE, 2);
+
+        assertEquals(Integer.MAX_VALUE, adapter.getItemsCount());
+        assertEquals(Integer.MIN_VALUE + 2, adapter.getValue(0));
+        assertEquals(Integer.MAX_VALUE - 1, adapter.getValue(adapter.getItemsCount() - 1));
+        assertEquals(adapter.getItemsCount() - 1, adapter.getItemIndex(Integer.MAX_VALUE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangesOverIntegerMaxValueItemsAreRejected() throws Exception {
+        // Integer.MAX_VALUE + 1 values
+        new NumericWheelAdapter(RuntimeEnvironment.application, Integer.MIN_VALUE, Integer.MAX_VALUE, 2);
+    }
+
+    @Test
+    public void bindingReusesViewCharacters() throws Exception {
+        NumericWheelAdapter adapter = new NumericWheelAdapter(RuntimeEnvironment.application, 1, 12);
+        adapter.setFormatter(new NumericWheelAdapter.Formatter() {
+            @Override
+            public void format(int value, StringBuilder out) {
+                out.append(value).append(" h");
+            }
+        });
+        LinearLayout parent = new LinearLayout(RuntimeEnvironment.application);
+
+        TextView view = (TextView) adapter.getItem(0, null, parent, 0);
+        Object chars = view.getTag(R.id.wheel_text_view_chars);
+        assertEquals("1 h", view.getText().toString());
+
+        assertSame(view, adapter.getItem(10, view, parent, 0));
+        assertEquals("11 h", view.getText().toString());
+        assertSame(chars, view.getTag(R.id.wheel_text_view_chars));
+    }
+}
@@ -0,0 +1,301 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.MotionEvent;
+import android.view.View;
+
+import com.nineoldandroids.animation.ValueAnimator;
+
+import org.robolectric.Robolectric;
+import org.robolectric.shadows.ShadowView;
+import org.robolectric.util.Scheduler;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Replays recorded touch traces on a wheel under Robolectric, one display frame at a time
+ * stepped through a {@link ManualFrameClock}, and collects the work the wheel did. Traces are read from {@code /scroll-replay/<name>.trace}
+ * resources, with one {@code <time ms> <down|move|up> <position px>} event per line.
+ * Every trace is first replayed on a wheel of its own and discarded, so loading and
+ * compiling code is not measured.
+ */
+final class ScrollReplay {
+
+    static final int FRAME_MS = 16;
+    static final float ALLOCATION_TOLERANCE = 0.25f;
+
+    // Frames to run after the last event at most, waiting for the wheel to settle
+    private static final int MAX_SETTLE_FRAMES = 600;
+
+    private static final String BASELINES = "/scroll-replay-baselines.properties";
+    private static final File RESULTS = new File("build/scroll-replay/results.properties");
+
+    private static final Properties results = new Properties();
+
+    /**
+     * Creates the wheels traces are replayed on, each replay needs a new wheel
+     */
+    interface WheelFactory {
+        AbstractWheelView create();
+    }
+
+    // Time the last replay has ended at. The velocity trackers of the shadows are pooled
+    // and keep movements of earlier replays, so a replay must not go back in time.
+    private static long lastReplayEnd;
+
+    private final AbstractWheelView wheel;
+    private final boolean vertical;
+    private final Canvas canvas;
+    private final ShadowView shadow;
+    private final Scheduler scheduler = Robolectric.getForegroundThreadScheduler();
+    private final ManualFrameClock clock = new ManualFrameClock();
+
+    private int draws;
+    private int changes;
+    private int scrollCallbacks;
+    private int progressCallbacks;
+    private int clicks;
+    // bytes allocated by frames, touch handling of the shadows allocates too much to be counted
+    private long allocated;
+
+    private ScrollReplay(AbstractWheelView wheel, int width, int height) {
+        this.wheel = wheel;
+        this.vertical = wheel instanceof VerticalView;
+        wheel.setFrameClock(clock);
+
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, width, height);
+        canvas = new Canvas(Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888));
+        shadow = shadowOf(wheel);
+        wheel.onDraw(canvas);
+        shadow.clearWasInvalidated();
+
+        wheel.addChangingListener(new OnWheelChangedListener() {
+            @Override
+            public void onChanged(AbstractWheel wheel, int oldValue, int newValue) {
+                changes++;
+            }
+        });
+        wheel.addScrollingListener(new OnWheelScrollListener() {
+            @Override
+            public void onScrollingStarted(AbstractWheel wheel) {
+                scrollCallbacks++;
+            }
+
+            @Override
+            public void onScrollingFinished(AbstractWheel wheel) {
+                scrollCallbacks++;
+            }
+        });
+        wheel.addProgressListener(new OnWheelProgressListener() {
+            @Override
+            public void onScrollProgress(AbstractWheel wheel, double position, float velocity) {
+                progressCallbacks++;
+            }
+        });
+        wheel.addClickingListener(new OnWheelClickedListener() {
+            @Override
+            public void onItemClicked(AbstractWheel wheel, int itemIndex) {
+                clicks++;
+            }
+        });
+    }
+
+    /**
+     * Replays a trace on a new wheel and lets the wheel settle, after a warm-up replay
+     * on another wheel
+     * @param factory the factory of the wheels
+     * @param width the wheel width
+     * @param height the wheel height
+     * @param trace the trace name
+     * @return the collected metrics, by name
+     */
+    static Map<String, Long> replay(WheelFactory factory, int width, int height, String trace) throws IOException {
+        List<long[]> events = load(trace);
+        new ScrollReplay(factory.create(), width, height).replay(events);
+        return new ScrollReplay(factory.create(), width, height).replay(events);
+    }
+
+    private Map<String, Long> replay(List<long[]> events) {
+        // Dimming animations of earlier wheels are still running, they share a handler whose
+        // messages are dropped when Robolectric resets the looper, stalling later animations
+        ValueAnimator.clearAllAnimations();
+        wheel.setMetricsEnabled(true);
+
+        if (scheduler.getCurrentTime() < lastReplayEnd + 1000) {
+            scheduler.advanceBy(lastReplayEnd + 1000 - scheduler.getCurrentTime(), TimeUnit.MILLISECONDS);
+        }
+        long start = scheduler.getCurrentTime();
+        for (long[] event : events) {
+            while (scheduler.getCurrentTime() + FRAME_MS <= start + event[0]) {
+                step();
+            }
+            touch(start, start + event[0], (int) event[1], event[2]);
+        }
+        for (int i = 0; i < MAX_SETTLE_FRAMES && (clock.hasFrame() || wheel.mIsScrollingPerformed); i++) {
+            step();
+        }
+        step(); // the frame drawing the settled wheel
+        assertFalse("wheel has not settled", wheel.mIsScrollingPerformed);
+        lastReplayEnd = scheduler.getCurrentTime();
+
+        WheelMetrics metrics = new WheelMetrics();
+        wheel.getMetrics(metrics);
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        result.put("binds", (long) metrics.binds);
+        result.put("inflations", (long) metrics.inflations);
+        result.put("recyclerMisses", (long) metrics.recyclerMisses);
+        result.put("measures", (long) metrics.measureLayouts);
+        result.put("draws", (long) draws);
+        result.put("invalidates", (long) metrics.invalidates);
+        result.put("changes", (long) changes);
+        result.put("scrollCallbacks", (long) scrollCallbacks);
+        result.put("progressCallbacks", (long) progressCallbacks);
+        result.put("clicks", (long) clicks);
+        if (getAllocatedBytes() >= 0) {
+            result.put("allocatedBytes", allocated);
+        }
+        return result;
+    }
+
+    /**
+     * Checks metrics against the committed baselines, and records them for updating the baselines
+     * @param scenario the scenario name
+     * @param result the metrics of the scenario
+     */
+    static void checkBaselines(String scenario, Map<String, Long> result) throws IOException {
+        Properties baselines = new Properties();
+        InputStream in = ScrollReplay.class.getResourceAsStream(BASELINES);
+        if (in != null) {
+            try {
+                baselines.load(in);
+            } finally {
+                in.close();
+            }
+        }
+
+        StringBuilder failures = new StringBuilder();
+        for (Map.Entry<String, Long> entry : result.entrySet()) {
+            String key = scenario + "." + entry.getKey();
+            long value = entry.getValue();
+            results.setProperty(key, String.valueOf(value));
+
+            String baseline = baselines.getProperty(key);
+            if (baseline == null) {
+                failures.append('\n').append(key).append(": ").append(value)
+                        .append(" has no baseline");
+                continue;
+            }
+            long limit = Long.parseLong(baseline.trim());
+            if (entry.getKey().equals("allocatedBytes")) {
+                limit += (long) (limit * ALLOCATION_TOLERANCE);
+            }
+            if (value > limit) {
+                failures.append('\n').append(key).append(": ").append(value)
+                        .append(" exceeds baseline ").append(baseline.trim());
+            }
+        }
+        writeResults();
+        if (failures.length() > 0) {
+            fail("Scroll replay regressed or lacks baselines, see " + RESULTS + failures);
+        }
+    }
+
+    private static void writeResults() throws IOException {
+        RESULTS.getParentFile().mkdirs();
+        OutputStream out = new FileOutputStream(RESULTS);
+        try {
+            results.store(out, "ScrollReplayBenchmarkTest results");
+        } finally {
+            out.close();
+        }
+    }
+
+    private void step() {
+        long start = getAllocatedBytes();
+        scheduler.advanceBy(FRAME_MS, TimeUnit.MILLISECONDS);
+        clock.frame(scheduler.getCurrentTime());
+        if (shadow.wasInvalidated()) {
+            shadow.clearWasInvalidated();
+            wheel.onDraw(canvas);
+            draws++;
+        }
+        allocated += getAllocatedBytes() - start;
+    }
+
+    private void touch(long downTime, long eventTime, int action, long position) {
+        float x = vertical ? wheel.getWidth() / 2 : position;
+        float y = vertical ? position : wheel.getHeight() / 2;
+        clock.setTime(eventTime);
+        MotionEvent event = MotionEvent.obtain(downTime, eventTime, action, x, y, 0);
+        wheel.onTouchEvent(event);
+        event.recycle();
+    }
+
+    /**
+     * Gets bytes allocated by the current thread so far
+     * @return the bytes, -1 if the JVM does not count them
+     */
+    static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a trace
+     * @return the events as {time, action, position}
+     */
+    private static List<long[]> load(String trace) throws IOException {
+        InputStream in = ScrollReplay.class.getResourceAsStream("/scroll-replay/" + trace + ".trace");
+        assertNotNull("missing trace " + trace, in);
+        List<long[]> events = new ArrayList<long[]>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split("\\s+");
+                events.add(new long[] {Long.parseLong(fields[0]), parseAction(fields[1]), Long.parseLong(fields[2])});
+            }
+        } finally {
+            reader.close();
+        }
+        return events;
+    }
+
+    private static int parseAction(String action) {
+        if (action.equals("down")) {
+            return MotionEvent.ACTION_DOWN;
+        } else if (action.equals("move")) {
+            return MotionEvent.ACTION_MOVE;
+        } else if (action.equals("up")) {
+            return MotionEvent.ACTION_UP;
+        }
+        throw new IllegalArgumentException("Unknown action " + action);
+    }
+}
@@ -0,0 +1,75 @@
+package com.techdew.lib.HorizontalWheel;
+
+import com.techdew.lib.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Replays recorded drags, flings and taps on horizontal and vertical wheels,
+ * checking the work done against the committed baselines, see {@link ScrollReplay}.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class ScrollReplayBenchmarkTest {
+
+    private static final int LENGTH = 480;
+    private static final int BREADTH = 120;
+
+    @Test
+    public void horizontalDrag() throws Exception {
+        Map<String, Long> result = replay(false, "drag");
+        assertTrue(result.get("changes") > 0);
+        ScrollReplay.checkBaselines("horizontalDrag", result);
+    }
+
+    @Test
+    public void horizontalFling() throws Exception {
+        Map<String, Long> result = replay(false, "fling");
+        assertTrue(result.get("changes") > 0);
+        ScrollReplay.checkBaselines("horizontalFling", result);
+    }
+
+    @Test
+    public void horizontalTap() throws Exception {
+        Map<String, Long> result = replay(false, "tap");
+        assertEquals(1L, (long) result.get("clicks"));
+        ScrollReplay.checkBaselines("horizontalTap", result);
+    }
+
+    @Test
+    public void verticalDrag() throws Exception {
+        Map<String, Long> result = replay(true, "drag");
+        assertTrue(result.get("changes") > 0);
+        ScrollReplay.checkBaselines("verticalDrag", result);
+    }
+
+    @Test
+    public void verticalFling() throws Exception {
+        Map<String, Long> result = replay(true, "fling");
+        assertTrue(result.get("changes") > 0);
+        ScrollReplay.checkBaselines("verticalFling", result);
+    }
+
+    private static Map<String, Long> replay(final boolean vertical, String trace) throws Exception {
+        ScrollReplay.WheelFactory factory = new ScrollReplay.WheelFactory() {
+            @Override
+            public AbstractWheelView create() {
+                AbstractWheelView wheel = vertical
+                        ? new VerticalView(RuntimeEnvironment.application)
+                        : new HorizontalView(RuntimeEnvironment.application);
+                wheel.setViewAdapter(new NumericWheelAdapter(RuntimeEnvironment.application, 0, 9999));
+                wheel.setCurrentItem(5000);
+                return wheel;
+            }
+        };
+        return ScrollReplay.replay(factory, vertical ? BREADTH : LENGTH, vertical ? LENGTH : BREADTH, trace);
+    }
+}
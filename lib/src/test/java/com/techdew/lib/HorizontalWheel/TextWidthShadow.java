@@ -0,0 +1,23 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.text.Layout;
+import android.text.TextPaint;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Gives text a width of {@link #CHAR_WIDTH} per character, where Robolectric measures
+ * all text 0 wide. Registered for all tests in robolectric.properties, see
+ * {@link DrawingObjectCounter}.
+ */
+@Implements(Layout.class)
+public class TextWidthShadow {
+
+    static final int CHAR_WIDTH = 10;
+
+    @Implementation
+    public static float getDesiredWidth(CharSequence source, TextPaint paint) {
+        return CHAR_WIDTH * source.length();
+    }
+}
@@ -0,0 +1,279 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.TextView;
+
+import com.techdew.lib.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the drawing pipeline of the wheel views.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class WheelDrawingTest {
+
+    private static final int WIDTH = 480;
+    private static final int HEIGHT = 120;
+
+    private static final int WARMUP_FRAMES = 10;
+    private static final int MEASURED_FRAMES = 20;
+
+    @Test
+    public void scrollFramesReuseDrawingObjects() throws Exception {
+        HorizontalView wheel = createWheel();
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.onDraw(canvas); // first frame creates the assets
+
+        long downTime = 0;
+        int x = WIDTH / 2;
+        touch(wheel, MotionEvent.ACTION_DOWN, downTime, downTime, x);
+        int frame = 0;
+        for (; frame < WARMUP_FRAMES; frame++, x -= 7) {
+            touch(wheel, MotionEvent.ACTION_MOVE, downTime, frame * 16, x);
+            wheel.onDraw(canvas);
+        }
+
+        DrawingObjectCounter.reset();
+        for (int i = 0; i < MEASURED_FRAMES; i++, frame++, x -= 7) {
+            touch(wheel, MotionEvent.ACTION_MOVE, downTime, frame * 16, x);
+            wheel.onDraw(canvas);
+        }
+
+        assertTrue(wheel.getCurrentItem() > 0);
+        // canvases, bitmaps and shaders are kept between frames
+        assertEquals(0, DrawingObjectCounter.getCount());
+    }
+
+    @Test
+    public void compositedModeKeepsNoBitmaps() throws Exception {
+        HorizontalView wheel = createWheel();
+        wheel.setRenderMode(AbstractWheelView.RENDER_MODE_COMPOSITED);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.onDraw(canvas);
+
+        assertNull(wheel.mSpinBitmap);
+        assertNull(wheel.mSeparatorsBitmap);
+
+        wheel.setRenderMode(AbstractWheelView.RENDER_MODE_BITMAP);
+        wheel.onDraw(canvas);
+
+        assertNotNull(wheel.mSpinBitmap);
+        assertNotNull(wheel.mSeparatorsBitmap);
+    }
+
+    @Test
+    public void directTextDrawingKeepsNoItemViews() throws Exception {
+        HorizontalView wheel = new HorizontalView(RuntimeEnvironment.application);
+        wheel.setDirectTextDrawing(true);
+        wheel.setViewAdapter(new ArrayWheelAdapter<String>(RuntimeEnvironment.application,
+                new String[] {"0", "25", "50", "75", "100"}));
+        assertTrue(wheel.isDirectTextDrawing());
+
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.AT_MOST));
+        wheel.layout(0, 0, WIDTH, wheel.getMeasuredHeight());
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.onDraw(canvas);
+        wheel.setCurrentItem(3);
+        wheel.onDraw(canvas);
+
+        assertNull(wheel.mItemsLayout);
+        assertEquals(WIDTH / wheel.getVisibleItems(), wheel.getItemDimension());
+    }
+
+    @Test
+    public void directTextDrawingWithAllItemsVisibleKeepsItemDimension() throws Exception {
+        HorizontalView wheel = new HorizontalView(RuntimeEnvironment.application);
+        wheel.setDirectTextDrawing(true);
+        wheel.setAllItemsVisible(true);
+        wheel.setViewAdapter(new NumericWheelAdapter(RuntimeEnvironment.application, 0, 99));
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.onDraw(canvas);
+        int visibleItems = wheel.getVisibleItems();
+
+        int itemDimension = wheel.getItemDimension();
+
+        for (int i = 0; i < 10; i++) {
+            wheel.onDraw(canvas);
+        }
+        assertEquals(visibleItems, wheel.getVisibleItems());
+        assertTrue(itemDimension > 0);
+
+        // items of wider text become current, the gradients are not rebuilt
+        DrawingObjectCounter.reset();
+        for (int i = 1; i <= 20; i++) {
+            wheel.setCurrentItem(5 * i);
+            wheel.onDraw(canvas);
+            assertEquals(itemDimension, wheel.getItemDimension());
+        }
+        assertEquals(visibleItems, wheel.getVisibleItems());
+        assertEquals(0, DrawingObjectCounter.getCount());
+    }
+
+    @Test
+    public void wrappedCyclicRangeKeepsTextLayouts() throws Exception {
+        CountingTextAdapter adapter = new CountingTextAdapter(100);
+        HorizontalView wheel = new HorizontalView(RuntimeEnvironment.application);
+        wheel.setDirectTextDrawing(true);
+        wheel.setCyclic(true);
+        wheel.setViewAdapter(adapter);
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.setCurrentItem(0); // the range wraps from 98 to 2
+        wheel.onDraw(canvas);
+
+        adapter.texts = 0;
+        wheel.onDraw(canvas);
+        wheel.onDraw(canvas);
+
+        assertEquals(0, adapter.texts);
+    }
+
+    @Test
+    public void snapshotCacheIsDroppedOnDataChange() throws Exception {
+        HorizontalView wheel = createWheel();
+        wheel.setItemSnapshotCacheSize(1 << 20);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.onDraw(canvas);
+
+        int bytes = wheel.mItemSnapshotCache.getBytes();
+        assertTrue(bytes > 0);
+        wheel.onDraw(canvas);
+        assertEquals(bytes, wheel.mItemSnapshotCache.getBytes());
+
+        ((AbstractWheelAdapter) wheel.getViewAdapter()).notifyDataChangedEvent();
+        assertEquals(0, wheel.mItemSnapshotCache.getBytes());
+    }
+
+    @Test
+    public void snapshotCacheKeepsToBudget() throws Exception {
+        WheelItemSnapshotCache cache = new WheelItemSnapshotCache(3 * 10 * 10 * 4);
+        for (int i = 0; i < 5; i++) {
+            cache.nextFrame();
+            cache.put(i, false, cache.obtain(10, 10));
+        }
+
+        assertEquals(3 * 10 * 10 * 4, cache.getBytes());
+        assertNull(cache.get(0, false));
+        assertNull(cache.get(1, false));
+        assertNotNull(cache.get(4, false));
+        assertNull(cache.get(4, true));
+        assertNull(cache.obtain(100, 100));
+    }
+
+    @Test
+    public void snapshotsMoveWithInsertedAndRemovedItems() throws Exception {
+        WheelItemSnapshotCache cache = new WheelItemSnapshotCache(5 * 10 * 10 * 4);
+        Bitmap[] snapshots = new Bitmap[4];
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = cache.obtain(10, 10);
+            cache.put(i, i == 1, snapshots[i]);
+        }
+
+        cache.shiftItems(2, 2, 2);
+        assertSame(snapshots[1], cache.get(1, true));
+        assertNull(cache.get(2, false));
+        assertSame(snapshots[2], cache.get(4, false));
+        assertSame(snapshots[3], cache.get(5, false));
+
+        cache.shiftItems(0, 1, -1);
+        assertSame(snapshots[1], cache.get(0, true));
+        assertSame(snapshots[3], cache.get(4, false));
+        assertEquals(3 * 10 * 10 * 4, cache.getBytes());
+    }
+
+    @Test
+    public void snapshotsOfCurrentFrameAreNotReused() throws Exception {
+        WheelItemSnapshotCache cache = new WheelItemSnapshotCache(2 * 10 * 10 * 4);
+        cache.nextFrame();
+        Bitmap first = cache.obtain(10, 10);
+        cache.put(0, false, first);
+        Bitmap second = cache.obtain(10, 10);
+        cache.put(1, false, second);
+
+        // a third visible item does not fit next to the two drawn ones
+        assertNull(cache.obtain(10, 10));
+        assertSame(first, cache.get(0, false));
+
+        cache.nextFrame();
+        cache.get(1, false);
+        Bitmap third = cache.obtain(10, 10);
+        assertSame(first, third); // dropped in an earlier frame
+        assertNull(cache.get(0, false));
+
+        cache.setMaxBytes(0); // drops the second snapshot while it is drawn
+        cache.setMaxBytes(10 * 10 * 4);
+        assertNotSame(second, cache.obtain(10, 10));
+        cache.nextFrame();
+        assertSame(second, cache.obtain(10, 10));
+    }
+
+    private HorizontalView createWheel() {
+        String[] values = new String[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = String.valueOf(25 * i);
+        }
+        HorizontalView wheel = new HorizontalView(RuntimeEnvironment.application);
+        wheel.setViewAdapter(new ArrayWheelAdapter<String>(RuntimeEnvironment.application, values) {
+            @Override
+            protected void onConfigureTextView(TextView textView, boolean isSelectedItem) {
+                super.onConfigureTextView(textView, isSelectedItem);
+                // text measured by the shadows has no size
+                textView.setMinWidth(WIDTH / 5);
+                textView.setMinHeight(HEIGHT / 2);
+            }
+        });
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+        return wheel;
+    }
+
+    private static class CountingTextAdapter extends AbstractWheelTextAdapter {
+
+        final int count;
+        int texts;
+
+        CountingTextAdapter(int count) {
+            super(RuntimeEnvironment.application);
+            this.count = count;
+        }
+
+        @Override
+        public int getItemsCount() {
+            return count;
+        }
+
+        @Override
+        protected CharSequence getItemText(int index) {
+            texts++;
+            return String.valueOf(index);
+        }
+    }
+
+    private static void touch(View view, int action, long downTime, long eventTime, float x) {
+        MotionEvent event = MotionEvent.obtain(downTime, eventTime, action, x, HEIGHT / 2, 0);
+        view.onTouchEvent(event);
+        event.recycle();
+    }
+}
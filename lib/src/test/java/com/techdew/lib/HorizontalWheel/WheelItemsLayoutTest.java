@@ -0,0 +1,319 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import com.techdew.lib.BuildConfig;
+import com.techdew.lib.R;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks how item views are bound and kept in the items layout.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class WheelItemsLayoutTest {
+
+    private static final int WIDTH = 480;
+    private static final int HEIGHT = 120;
+
+    private CountingAdapter adapter;
+    private HorizontalView wheel;
+    private Canvas canvas;
+
+    @Before
+    public void setUp() throws Exception {
+        List<String> values = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            values.add(String.valueOf(25 * i));
+        }
+        adapter = new CountingAdapter(RuntimeEnvironment.application, values);
+        wheel = new HorizontalView(RuntimeEnvironment.application);
+        wheel.setViewAdapter(adapter);
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+        canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.onDraw(canvas);
+    }
+
+    @Test
+    public void scrollFinishDoesNotRebindItems() throws Exception {
+        wheel.setCurrentItem(1);
+        wheel.onDraw(canvas);
+
+        adapter.binds = 0;
+        wheel.onScrollFinished();
+        wheel.onDraw(canvas);
+
+        assertEquals(0, adapter.binds);
+    }
+
+    @Test
+    public void selectionChangeRebindsOnlyChangedItems() throws Exception {
+        wheel.setCurrentItem(2);
+        wheel.onDraw(canvas);
+        View first = wheel.mItemsLayout.getItemAt(0);
+
+        adapter.binds = 0;
+        wheel.setCurrentItem(3);
+        wheel.onDraw(canvas);
+
+        // the item entering the wheel, and the previous and new current items
+        assertEquals(3, adapter.binds);
+        assertNotSame(first, wheel.mItemsLayout.getItemAt(0));
+    }
+
+    @Test
+    public void dataChangeRebindsItemsInPlace() throws Exception {
+        int count = wheel.mItemsLayout.getItemCount();
+        View[] children = new View[count];
+        for (int i = 0; i < count; i++) {
+            children[i] = wheel.mItemsLayout.getItemAt(i);
+        }
+
+        adapter.binds = 0;
+        adapter.notifyDataChangedEvent();
+        wheel.onDraw(canvas);
+
+        assertEquals(count, adapter.binds);
+        for (int i = 0; i < count; i++) {
+            assertSame(children[i], wheel.mItemsLayout.getItemAt(i));
+        }
+    }
+
+    @Test
+    public void itemChangeRebindsOnlyThatItem() throws Exception {
+        wheel.setCurrentItem(10);
+        wheel.onDraw(canvas);
+
+        adapter.binds = 0;
+        adapter.items.set(11, "changed");
+        adapter.notifyItemChanged(11);
+        adapter.notifyItemChanged(50); // not visible
+        wheel.onDraw(canvas);
+
+        assertEquals(1, adapter.binds);
+        assertEquals(10, wheel.getCurrentItem());
+    }
+
+    @Test
+    public void insertionBeforeCurrentItemKeepsSelection() throws Exception {
+        wheel.setCurrentItem(10);
+        wheel.onDraw(canvas);
+        View current = findCurrentItemView();
+
+        adapter.binds = 0;
+        adapter.items.add(0, "first");
+        adapter.items.add(0, "second");
+        adapter.notifyItemRangeInserted(0, 2);
+        wheel.onDraw(canvas);
+
+        assertEquals(12, wheel.getCurrentItem());
+        assertSame(current, findCurrentItemView());
+        assertEquals(0, adapter.binds);
+    }
+
+    @Test
+    public void removalOfCurrentItemSelectsNextOne() throws Exception {
+        wheel.setCurrentItem(10);
+        wheel.onDraw(canvas);
+
+        adapter.items.remove(10);
+        adapter.notifyItemRangeRemoved(10, 1);
+        wheel.onDraw(canvas);
+
+        assertEquals(10, wheel.getCurrentItem());
+        assertEquals(Boolean.TRUE, findCurrentItemView().getTag(R.id.wheel_item_selected_state));
+    }
+
+    @Test
+    public void fixedItemSizeScrollsWithoutMeasuring() throws Exception {
+        wheel.setItemSize(WIDTH / 5);
+        wheel.setCurrentItem(10);
+        wheel.mScrollingOffset = 5;
+        wheel.onDraw(canvas);
+        View first = wheel.mItemsLayout.getItemAt(0);
+        assertEquals(WIDTH / 5, first.getWidth());
+
+        wheel.setMetricsEnabled(true);
+        adapter.binds = 0;
+        adapter.measures = 0;
+        for (int offset = 6; offset < WIDTH / 10; offset++) {
+            wheel.mScrollingOffset = offset;
+            wheel.onDraw(canvas);
+        }
+        WheelMetrics metrics = new WheelMetrics();
+        wheel.getMetrics(metrics);
+        assertEquals(0, adapter.binds);
+        assertEquals(0, metrics.measureLayouts);
+        assertEquals(0, adapter.measures);
+
+        // items entering the wheel, and the previous and new current items, are measured
+        wheel.mScrollingOffset = 0;
+        wheel.onDraw(canvas);
+        wheel.resetMetrics();
+        adapter.binds = 0;
+        adapter.measures = 0;
+        for (int i = 11; i <= 20; i++) {
+            wheel.setCurrentItem(i);
+            wheel.onDraw(canvas);
+        }
+        wheel.getMetrics(metrics);
+        assertEquals(3 * 10, adapter.binds);
+        assertEquals(adapter.binds, adapter.measures);
+        assertEquals(10, metrics.measureLayouts);
+        View current = findCurrentItemView();
+        assertEquals((wheel.getCurrentItem() - wheel.mFirstItemIdx) * WIDTH / 5, current.getLeft());
+
+        // all items are measured again for another size across the wheel
+        adapter.measures = 0;
+        wheel.layout(0, 0, WIDTH, HEIGHT / 2);
+        wheel.onDraw(canvas);
+        assertEquals(wheel.mItemsLayout.getItemCount(), adapter.measures);
+    }
+
+    @Test
+    public void repeatedMeasureIsCached() throws Exception {
+        wheel.setMetricsEnabled(true);
+        wheel.forceLayout();
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        WheelMetrics metrics = new WheelMetrics();
+        wheel.getMetrics(metrics);
+
+        assertEquals(0, metrics.rebuilds);
+        assertEquals(WIDTH, wheel.getMeasuredWidth());
+        assertEquals(HEIGHT, wheel.getMeasuredHeight());
+    }
+
+    @Test
+    public void itemsAreKeptInRing() throws Exception {
+        WheelItemsLayout layout = new WheelItemsLayout(RuntimeEnvironment.application, WheelItemsLayout.HORIZONTAL);
+        View[] views = new View[12];
+        for (int i = 0; i < views.length; i++) {
+            views[i] = new View(RuntimeEnvironment.application);
+        }
+        for (int i = 6; i < 12; i++) {
+            layout.addLast(views[i]);
+        }
+        for (int i = 5; i >= 0; i--) {
+            layout.addFirst(views[i]);
+        }
+        layout.removeItems(0, 3);
+        layout.removeItems(layout.getItemCount() - 2, 2);
+        layout.removeItems(2, 1);
+
+        assertEquals(6, layout.getItemCount());
+        assertSame(views[3], layout.getItemAt(0));
+        assertSame(views[4], layout.getItemAt(1));
+        assertSame(views[6], layout.getItemAt(2));
+        assertSame(views[9], layout.getItemAt(5));
+    }
+
+    @Test
+    public void scrollWithinItemDoesNotLayOutItems() throws Exception {
+        wheel.setItemSize(WIDTH / 5);
+        wheel.mScrollingOffset = 5;
+        wheel.onDraw(canvas);
+        View first = wheel.mItemsLayout.getItemAt(0);
+        first.layout(0, 0, 1, 1); // moved behind the container's back
+
+        wheel.mScrollingOffset = 10;
+        wheel.onDraw(canvas);
+
+        assertSame(first, wheel.mItemsLayout.getItemAt(0));
+        assertEquals(1, first.getWidth());
+    }
+
+    @Test
+    public void itemReboundInPlaceIsMeasuredAgain() throws Exception {
+        wheel.setCurrentItem(10);
+        wheel.onDraw(canvas);
+        View item = wheel.mItemsLayout.getItemAt(11 - wheel.mFirstItemIdx);
+        int width = item.getWidth();
+
+        adapter.charWidth = 10;
+        adapter.items.set(11, "a much wider item");
+        adapter.notifyItemRangeChanged(11, 1);
+        wheel.onDraw(canvas);
+
+        assertSame(item, wheel.mItemsLayout.getItemAt(11 - wheel.mFirstItemIdx));
+        assertEquals(10 * "a much wider item".length(), item.getMeasuredWidth());
+        assertEquals(item.getMeasuredWidth(), item.getWidth());
+        assertTrue(item.getWidth() > width);
+    }
+
+    private View findCurrentItemView() {
+        return wheel.mItemsLayout.getItemAt(wheel.getCurrentItem() - wheel.mFirstItemIdx);
+    }
+
+    private static class CountingAdapter extends AbstractWheelTextAdapter {
+
+        final List<String> items;
+        int binds;
+        int measures;
+        // width of a character, text measured by the shadows has no size
+        int charWidth;
+
+        CountingAdapter(Context context, List<String> items) {
+            super(context);
+            this.items = items;
+        }
+
+        @Override
+        public int getItemsCount() {
+            return items.size();
+        }
+
+        @Override
+        protected CharSequence getItemText(int index) {
+            return items.get(index);
+        }
+
+        @Override
+        protected void bindItemText(TextView textView, int index) {
+            super.bindItemText(textView, index);
+            if (charWidth > 0) {
+                textView.setMinWidth(charWidth * items.get(index).length());
+            }
+        }
+
+        @Override
+        public View getItem(int index, View convertView, ViewGroup parent, int currentItemIdx) {
+            binds++;
+            if (convertView == null) {
+                convertView = new TextView(context) {
+                    @Override
+                    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+                        measures++;
+                        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+                    }
+                };
+            }
+            return super.getItem(index, convertView, parent, currentItemIdx);
+        }
+
+        @Override
+        public void notifyDataChangedEvent() {
+            super.notifyDataChangedEvent();
+        }
+    }
+}
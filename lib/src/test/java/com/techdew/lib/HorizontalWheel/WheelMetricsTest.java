@@ -0,0 +1,80 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.View;
+
+import com.techdew.lib.BuildConfig;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the drawing and work counters of the wheel.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class WheelMetricsTest {
+
+    private static final int WIDTH = 480;
+    private static final int HEIGHT = 120;
+
+    private static final long FRAME = 1000000000L / 60;
+
+    @Test
+    public void countersFollowDrawing() throws Exception {
+        HorizontalView wheel = new HorizontalView(RuntimeEnvironment.application);
+        wheel.setViewAdapter(new NumericWheelAdapter(RuntimeEnvironment.application, 0, 99));
+        wheel.setMetricsEnabled(true);
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        WheelMetrics metrics = new WheelMetrics();
+
+        wheel.onDraw(canvas);
+        wheel.getMetrics(metrics);
+        assertEquals(1, metrics.frames);
+        assertTrue(metrics.rebuilds > 0);
+        assertTrue(metrics.binds > 0);
+        assertEquals(metrics.binds, metrics.inflations);
+        assertEquals(0, metrics.recyclerHits);
+
+        // moving between positions where the range is not clamped, the views shown are reused
+        wheel.setCurrentItem(10);
+        wheel.onDraw(canvas);
+        wheel.resetMetrics();
+        wheel.setCurrentItem(11);
+        wheel.onDraw(canvas);
+        wheel.getMetrics(metrics);
+        assertEquals(1, metrics.frames);
+        assertTrue(metrics.invalidates > 0);
+        assertTrue(metrics.recyclerHits > 0);
+        assertEquals(0, metrics.inflations);
+
+        wheel.setMetricsEnabled(false);
+        wheel.getMetrics(metrics);
+        assertEquals(0, metrics.frames);
+    }
+
+    @Test
+    public void scrollFramesAreBucketedByMissedFrames() throws Exception {
+        WheelMetrics metrics = new WheelMetrics();
+
+        metrics.recordFrame(FRAME, FRAME + 1000, true);
+        metrics.recordFrame(2 * FRAME + 500, 2 * FRAME + 3000, true);
+        metrics.recordFrame(5 * FRAME, 5 * FRAME + 2000, true);
+        metrics.recordFrame(20 * FRAME, 20 * FRAME + 1000, true);
+        metrics.recordFrame(30 * FRAME, 30 * FRAME + 1000, false);
+
+        assertEquals(5, metrics.frames);
+        assertEquals(3000 - 500, metrics.maxDrawNanos);
+        assertArrayEquals(new int[] {1, 0, 1, 0, 1}, metrics.scrollFrameHistogram);
+    }
+}
@@ -0,0 +1,65 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.view.View;
+
+import com.techdew.lib.BuildConfig;
+import com.techdew.lib.R;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks pooling of recycled item views.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class WheelRecyclerTest {
+
+    @Test
+    public void viewsAreReusedByType() throws Exception {
+        WheelRecycler recycler = new WheelRecycler(new HorizontalView(RuntimeEnvironment.application));
+        recycler.setViewTypeCount(2);
+        WheelItemsLayout layout = new WheelItemsLayout(RuntimeEnvironment.application, WheelItemsLayout.HORIZONTAL);
+        View first = addItem(layout, 0);
+        View second = addItem(layout, 1);
+        View empty = addItem(layout, -1);
+        addItem(layout, 2); // not declared by the adapter
+
+        assertEquals(4, recycler.recycleItems(layout, 0, new ItemsRange()));
+        assertEquals(0, layout.getItemCount());
+
+        assertSame(second, recycler.getItem(1));
+        assertNull(recycler.getItem(1));
+        assertSame(first, recycler.getItem(0));
+        assertSame(empty, recycler.getEmptyItem());
+        assertNull(recycler.getItem(2));
+    }
+
+    @Test
+    public void poolsAreBounded() throws Exception {
+        WheelRecycler recycler = new WheelRecycler(new HorizontalView(RuntimeEnvironment.application));
+        recycler.setViewTypeCount(1);
+        recycler.setMaxPoolSize(2);
+        WheelItemsLayout layout = new WheelItemsLayout(RuntimeEnvironment.application, WheelItemsLayout.HORIZONTAL);
+        for (int i = 0; i < 5; i++) {
+            addItem(layout, 0);
+        }
+        recycler.recycleItems(layout, 0, new ItemsRange());
+
+        assertNotNull(recycler.getItem(0));
+        assertNotNull(recycler.getItem(0));
+        assertNull(recycler.getItem(0));
+    }
+
+    private static View addItem(WheelItemsLayout layout, int viewType) {
+        View view = new View(RuntimeEnvironment.application);
+        view.setTag(R.id.wheel_item_view_type, viewType >= 0 ? viewType : null);
+        layout.addLast(view);
+        return view;
+    }
+}
@@ -0,0 +1,312 @@
+package com.techdew.lib.HorizontalWheel;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.MotionEvent;
+import android.view.View;
+
+import com.techdew.lib.BuildConfig;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks programmatic scrolling of the wheel.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class WheelScrollTest {
+
+    private static final int WIDTH = 480;
+    private static final int HEIGHT = 120;
+
+    private HorizontalView wheel;
+    private ManualFrameClock clock;
+    private int changes;
+
+    @Before
+    public void setUp() throws Exception {
+        wheel = new HorizontalView(RuntimeEnvironment.application);
+        // the main looper runs frame callbacks at once, so animations are stepped by hand
+        clock = new ManualFrameClock();
+        wheel.setFrameClock(clock);
+        wheel.setViewAdapter(new NumericWheelAdapter(RuntimeEnvironment.application, 0, 99999));
+        wheel.measure(
+                View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        wheel.layout(0, 0, WIDTH, HEIGHT);
+        wheel.addChangingListener(new OnWheelChangedListener() {
+            @Override
+            public void onChanged(AbstractWheel wheel, int oldValue, int newValue) {
+                changes++;
+            }
+        });
+    }
+
+    @Test
+    public void longScrollWarpsCloseToTarget() throws Exception {
+        wheel.setScrollWarpItems(3);
+        wheel.setCurrentItem(5000, true);
+
+        assertEquals(4997, wheel.getCurrentItem());
+        assertEquals(1, changes);
+    }
+
+    @Test
+    public void warpStopsAtTheEnds() throws Exception {
+        wheel.setScrollWarpItems(3);
+        wheel.setCurrentItem(99999, true);
+        assertEquals(99996, wheel.getCurrentItem());
+
+        wheel.scroll(-200000, 0);
+        assertEquals(3, wheel.getCurrentItem());
+    }
+
+    @Test
+    public void flingLandsOnPredictedItem() throws Exception {
+        final int[] predicted = {-1};
+        wheel.addFlingListener(new OnWheelFlingListener() {
+            @Override
+            public void onFlingTargetPredicted(AbstractWheel wheel, int targetItem) {
+                predicted[0] = targetItem;
+            }
+        });
+        wheel.setCurrentItem(500);
+
+        touch(MotionEvent.ACTION_DOWN, 0, 400);
+        touch(MotionEvent.ACTION_MOVE, 10, 300);
+        touch(MotionEvent.ACTION_MOVE, 20, 200);
+        touch(MotionEvent.ACTION_UP, 30, 100);
+
+        int target = wheel.getScrollTargetItem();
+        assertTrue(target > 500);
+        assertEquals(target, predicted[0]);
+
+        clock.runFrames(60);
+
+        assertEquals(target, wheel.getCurrentItem());
+        assertEquals(0, wheel.mScrollingOffset);
+        assertEquals(-1, wheel.getScrollTargetItem());
+    }
+
+    @Test
+    public void frameDispatchConflatesChanges() throws Exception {
+        final int[] last = new int[2];
+        wheel.addChangingListener(new OnWheelChangedListener() {
+            @Override
+            public void onChanged(AbstractWheel wheel, int oldValue, int newValue) {
+                last[0] = oldValue;
+                last[1] = newValue;
+            }
+        });
+        wheel.setChangeDispatchMode(AbstractWheel.CHANGE_DISPATCH_FRAME);
+        // animation callbacks are run for a wheel in a window only
+        Robolectric.setupActivity(Activity.class).setContentView(wheel);
+        ShadowLooper.pauseMainLooper();
+
+        wheel.setCurrentItem(1);
+        wheel.setCurrentItem(2);
+        wheel.setCurrentItem(3);
+        assertEquals(0, changes);
+
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertEquals(1, changes);
+        assertEquals(0, last[0]);
+        assertEquals(3, last[1]);
+    }
+
+    @Test
+    public void settledDispatchWaitsForScrollingEnd() throws Exception {
+        wheel.setChangeDispatchMode(AbstractWheel.CHANGE_DISPATCH_SETTLED);
+        wheel.setCurrentItem(10);
+        assertEquals(1, changes); // not scrolling
+
+        touch(MotionEvent.ACTION_DOWN, 0, 400);
+        for (int i = 1; i <= 30; i++) {
+            touch(MotionEvent.ACTION_MOVE, i * 16, 400 - i * 10);
+        }
+        assertTrue(wheel.getCurrentItem() > 10);
+        assertEquals(1, changes);
+
+        touch(MotionEvent.ACTION_UP, 31 * 16, 100);
+        clock.runFrames(60);
+        assertEquals(2, changes);
+    }
+
+    @Test
+    public void progressIsReportedOncePerChangedFrame() throws Exception {
+        final List<double[]> progress = new ArrayList<double[]>();
+        wheel.addProgressListener(new OnWheelProgressListener() {
+            @Override
+            public void onScrollProgress(AbstractWheel wheel, double position, float velocity) {
+                progress.add(new double[] {position, velocity});
+            }
+        });
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+
+        wheel.setCurrentItem(10);
+        wheel.onDraw(canvas);
+        wheel.onDraw(canvas);
+        assertEquals(1, progress.size());
+        assertEquals(10f, progress.get(0)[0], 0);
+        assertEquals(0f, progress.get(0)[1], 0);
+
+        touch(MotionEvent.ACTION_DOWN, 0, 400);
+        touch(MotionEvent.ACTION_MOVE, 16, 380);
+        clock.setTime(16);
+        wheel.onDraw(canvas);
+        assertEquals(2, progress.size());
+        assertTrue(progress.get(1)[0] > 10f);
+        assertTrue(progress.get(1)[0] < 11f);
+        assertTrue(progress.get(1)[1] > 0f);
+    }
+
+    @Test
+    public void progressKeepsFractionOfHugeAdapters() throws Exception {
+        final double[] progress = new double[1];
+        wheel.addProgressListener(new OnWheelProgressListener() {
+            @Override
+            public void onScrollProgress(AbstractWheel wheel, double position, float velocity) {
+                progress[0] = position;
+            }
+        });
+        wheel.setViewAdapter(new NumericWheelAdapter(RuntimeEnvironment.application, 0, 29999999));
+        Canvas canvas = new Canvas(Bitmap.createBitmap(WIDTH, HEIGHT, Bitmap.Config.ARGB_8888));
+        wheel.setCurrentItem(20000000);
+        wheel.onDraw(canvas);
+
+        int itemDimension = wheel.getItemDimension();
+        wheel.mScrollingOffset = -(itemDimension / 2);
+        wheel.onDraw(canvas);
+
+        // a float has no fraction left above 2^24
+        assertEquals(20000000 + (itemDimension / 2) / (double) itemDimension, progress[0], 1e-6);
+    }
+
+    @Test
+    public void programmaticScrollTakesSameTimeAtAnyRefreshRate() throws Exception {
+        int item = 100;
+        for (int hz : new int[] {60, 90, 120}) {
+            item += 3;
+            long start = clock.now();
+            wheel.setCurrentItem(item, true);
+            clock.runFrames(hz);
+
+            // up to 400 ms of scrolling, the last pixel is reached a little earlier,
+            // then at most a frame to finish justifying
+            long elapsed = clock.now() - start;
+            assertTrue("scrolled for " + elapsed + " ms", elapsed > 300);
+            assertTrue("scrolled for " + elapsed + " ms", elapsed <= 400 + 1000 / hz + 1);
+            assertEquals(item, wheel.getCurrentItem());
+            assertEquals(0, wheel.mScrollingOffset);
+        }
+    }
+
+    @Test
+    public void steppedFlingIsReproducible() throws Exception {
+        int[] frames = new int[2];
+        int[] targets = new int[2];
+        for (int run = 0; run < 2; run++) {
+            clock = new ManualFrameClock();
+            wheel.setFrameClock(clock);
+            wheel.setCurrentItem(500);
+
+            clock.setTime(0);
+            touch(MotionEvent.ACTION_DOWN, 0, 400);
+            clock.setTime(10);
+            touch(MotionEvent.ACTION_MOVE, 10, 300);
+            clock.setTime(20);
+            touch(MotionEvent.ACTION_MOVE, 20, 200);
+            clock.setTime(30);
+            touch(MotionEvent.ACTION_UP, 30, 100);
+            targets[run] = wheel.getScrollTargetItem();
+
+            frames[run] = clock.runFrames(120);
+            assertEquals(targets[run], wheel.getCurrentItem());
+            assertEquals(0, wheel.mScrollingOffset);
+        }
+        assertTrue(targets[0] > 500);
+        assertEquals(targets[0], targets[1]);
+        assertEquals(frames[0], frames[1]);
+    }
+
+    @Test
+    public void executorListenerGetsLatestChange() throws Exception {
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        final List<String> delivered = new ArrayList<String>();
+        OnWheelChangedListener listener = new OnWheelChangedListener() {
+            @Override
+            public void onChanged(AbstractWheel wheel, int oldValue, int newValue) {
+                delivered.add(oldValue + ">" + newValue);
+            }
+        };
+        wheel.addChangingListener(listener, new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                tasks.add(command);
+            }
+        });
+
+        wheel.setCurrentItem(1);
+        wheel.setCurrentItem(2);
+        wheel.setCurrentItem(3);
+        assertEquals(1, tasks.size());
+        assertEquals(3, changes);
+
+        tasks.remove(0).run();
+        assertEquals("[0>3]", delivered.toString());
+
+        wheel.setCurrentItem(4);
+        wheel.removeChangingListener(listener);
+        wheel.setCurrentItem(5);
+        tasks.remove(0).run(); // queued before the removal
+        assertEquals("[0>3]", delivered.toString());
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void listenerMayRemoveItselfWhileNotified() throws Exception {
+        final int[] calls = {0};
+        wheel.addChangingListener(new OnWheelChangedListener() {
+            @Override
+            public void onChanged(AbstractWheel wheel, int oldValue, int newValue) {
+                calls[0]++;
+                wheel.removeChangingListener(this);
+            }
+        });
+
+        wheel.setCurrentItem(1);
+        wheel.setCurrentItem(2);
+
+        assertEquals(1, calls[0]);
+        assertEquals(2, changes);
+    }
+
+    @Test
+    public void shortScrollIsNotWarped() throws Exception {
+        wheel.setScrollWarpItems(3);
+        wheel.setCurrentItem(3, true);
+
+        assertEquals(0, wheel.getCurrentItem());
+        assertEquals(0, changes);
+    }
+
+    private void touch(int action, long eventTime, float x) {
+        MotionEvent event = MotionEvent.obtain(0, eventTime, action, x, HEIGHT / 2, 0);
+        wheel.onTouchEvent(event);
+        event.recycle();
+    }
+}